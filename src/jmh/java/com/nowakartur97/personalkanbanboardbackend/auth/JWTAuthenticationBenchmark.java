@@ -0,0 +1,97 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.nowakartur97.personalkanbanboardbackend.auth.JWTUtil.ROLE_CLAIM;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTAuthenticationBenchmark {
+
+    private final static String SECRET_KEY = "8f9879e8-1afd-4a88-81b8-04d68f32fdaf-benchmark";
+
+    private JWTUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AuthenticationManager authenticationManager;
+    private SecretKey secretKey;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JWTConfigurationProperties.Cache cache = new JWTConfigurationProperties.Cache(true, 10000, Duration.ofMinutes(30));
+        JWTConfigurationProperties jwtConfigurationProperties = new JWTConfigurationProperties(SECRET_KEY, 10800000,
+                "Authorization", "Bearer", 7, cache, UserVerification.CLAIMS, cache);
+        jwtUtil = new JWTUtil(jwtConfigurationProperties);
+        jwtUtil.init();
+        verifiedTokenCache = new VerifiedTokenCache(jwtConfigurationProperties, new SimpleMeterRegistry());
+        authenticationManager = new AuthenticationManager(jwtUtil, verifiedTokenCache);
+        secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        userId = UUID.randomUUID();
+        token = jwtUtil.generateToken(userId, "user", "USER");
+    }
+
+    // Previous implementation: security context loading, authentication and the controller each parsed the token
+    // with a newly built parser, six signature verifications per request in total
+    @Benchmark
+    public List<String> authenticateWithRepeatedParsing() {
+        String username = extractAllClaims(token).getSubject();
+        String authenticatedUsername = extractAllClaims(token).getSubject();
+        boolean isTokenValid = extractAllClaims(token).getSubject().equals(authenticatedUsername)
+                && !extractAllClaims(token).getExpiration().before(new Date());
+        List<?> roles = extractAllClaims(token).get(ROLE_CLAIM, List.class);
+        String controllerUsername = extractAllClaims(token).getSubject();
+        return List.of(username, String.valueOf(isTokenValid), roles.toString(), controllerUsername);
+    }
+
+    @Benchmark
+    public JWTClaims authenticateWithSingleParsing() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public JWTClaims authenticateWithVerifiedTokenCache() {
+        return verifiedTokenCache.get(token, jwtUtil::parseClaims);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userId, "user", "USER");
+    }
+
+    // Full path of a request with a cached token, from the bearer credentials to the authentication with authorities
+    @Benchmark
+    public Authentication authenticateWithAuthenticationManager() {
+        return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(token, token)).block();
+    }
+
+    private Claims extractAllClaims(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,99 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.common.UUIDv7Generator;
+import com.nowakartur97.personalkanbanboardbackend.integration.PostgresStarter;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Inserts batches of rows keyed by random (v4) and time-ordered (v7) ids into a table that already holds
+// a large primary key index, the size of the index is logged at the end of every trial
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Slf4j
+public class TaskIdInsertBenchmark {
+
+    @Param({"V4", "V7"})
+    private String uuidVersion;
+    @Param({"1000000"})
+    private int existingRows;
+    @Param({"1000"})
+    private int batchSize;
+
+    private Connection connection;
+    private Supplier<UUID> idGenerator;
+
+    @Setup
+    public void setUp() throws SQLException {
+        PostgresStarter.postgresContainer.start();
+        connection = DriverManager.getConnection(PostgresStarter.postgresContainer.getJdbcUrl(),
+                PostgresStarter.postgresContainer.getUsername(), PostgresStarter.postgresContainer.getPassword());
+        idGenerator = uuidVersion.equals("V7") ? UUIDv7Generator::generate : UUID::randomUUID;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE tasks (
+                        task_id UUID PRIMARY KEY,
+                        title VARCHAR(100) NOT NULL,
+                        created_on TIMESTAMP NOT NULL
+                    )
+                    """);
+        }
+        for (int i = 0; i < existingRows; i += batchSize) {
+            insertBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_size_pretty(pg_relation_size('tasks_pkey'))")) {
+            resultSet.next();
+            log.info("Primary key index size with {} ids: {}", uuidVersion, resultSet.getString(1));
+        }
+        // The container is shared by the trials running in the same JVM, each of them starts from a new table
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE tasks");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO tasks (task_id, title, created_on) VALUES (?, ?, ?)")) {
+            Timestamp createdOn = Timestamp.from(Instant.now());
+            for (int i = 0; i < batchSize; i++) {
+                statement.setObject(1, idGenerator.get());
+                statement.setString(2, "task");
+                statement.setTimestamp(3, createdOn);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        }
+    }
+}
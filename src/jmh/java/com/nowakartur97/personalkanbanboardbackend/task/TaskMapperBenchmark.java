@@ -0,0 +1,114 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"10000"})
+    private int tasksCount;
+    @Param({"1000"})
+    private int usersCount;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    private List<TaskEntity> tasks;
+    private List<UserEntity> users;
+    private Map<UUID, String> usernamesByUserId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        users = new ArrayList<>(usersCount);
+        for (int i = 0; i < usersCount; i++) {
+            users.add(UserEntity.builder()
+                    .userId(UUID.randomUUID())
+                    .username("user" + i)
+                    .email("user" + i + "@domain.com")
+                    .role(UserRole.USER)
+                    .build());
+        }
+        tasks = new ArrayList<>(tasksCount);
+        for (int i = 0; i < tasksCount; i++) {
+            tasks.add(TaskEntity.builder()
+                    .taskId(UUID.randomUUID())
+                    .title("task" + i)
+                    .description("description" + i)
+                    .status(TaskStatus.values()[random.nextInt(TaskStatus.values().length)])
+                    .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                    .targetEndDate(LocalDate.now().plusDays(random.nextInt(30)))
+                    .assignedTo(users.get(random.nextInt(usersCount)).getUserId())
+                    .createdBy(users.get(random.nextInt(usersCount)).getUserId())
+                    .createdOn(Instant.now())
+                    .updatedBy(i % 2 == 0 ? users.get(random.nextInt(usersCount)).getUserId() : null)
+                    .updatedOn(i % 2 == 0 ? Instant.now() : null)
+                    .build());
+        }
+        usernamesByUserId = users.stream()
+                .collect(Collectors.toMap(UserEntity::getUserId, UserEntity::getUsername));
+    }
+
+    // Previous implementation: a stream over all users for every user field of every task
+    @Benchmark
+    public List<TaskResponse> mapToResponseWithUsersListScan() {
+        List<TaskResponse> taskResponses = new ArrayList<>(tasks.size());
+        for (TaskEntity task : tasks) {
+            taskResponses.add(taskMapper.mapToResponse(task,
+                    getUsernameByUserIdFromList(task.getCreatedBy()),
+                    getUsernameByUserIdFromList(task.getUpdatedBy()),
+                    getUsernameByUserIdFromList(task.getAssignedTo())));
+        }
+        return taskResponses;
+    }
+
+    @Benchmark
+    public TaskResponse mapToResponse() {
+        TaskEntity task = tasks.getFirst();
+        return taskMapper.mapToResponse(task,
+                usernamesByUserId.get(task.getCreatedBy()),
+                usernamesByUserId.get(task.getUpdatedBy()),
+                usernamesByUserId.get(task.getAssignedTo()));
+    }
+
+    @Benchmark
+    public List<TaskResponse> mapToResponseWithUsernamesByUserId() {
+        return taskMapper.mapToResponse(tasks, usernamesByUserId);
+    }
+
+    private String getUsernameByUserIdFromList(UUID userId) {
+        if (userId == null) {
+            return null;
+        }
+        return users.stream().filter(user -> user.getUserId().equals(userId))
+                .findFirst()
+                .orElseThrow()
+                .getUsername();
+    }
+}
@@ -0,0 +1,77 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskResponseSerializationBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int tasksCount;
+
+    // Spring defaults with the Java time module registered, as for the object mapper of the application
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            userIds.add(UUID.randomUUID());
+        }
+        tasks = new ArrayList<>(tasksCount);
+        for (int i = 0; i < tasksCount; i++) {
+            UUID createdById = userIds.get(random.nextInt(userIds.size()));
+            UUID updatedById = i % 2 == 0 ? userIds.get(random.nextInt(userIds.size())) : null;
+            UUID assignedToId = userIds.get(random.nextInt(userIds.size()));
+            tasks.add(new TaskResponse(
+                    UUID.randomUUID(),
+                    "task" + i,
+                    "description" + i,
+                    TaskStatus.values()[random.nextInt(TaskStatus.values().length)],
+                    TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                    LocalDate.now().plusDays(random.nextInt(30)),
+                    "user" + userIds.indexOf(createdById),
+                    LocalDateTime.now().toString(),
+                    updatedById != null ? "user" + userIds.indexOf(updatedById) : null,
+                    updatedById != null ? LocalDateTime.now().toString() : null,
+                    "user" + userIds.indexOf(assignedToId),
+                    0L,
+                    createdById,
+                    updatedById,
+                    assignedToId));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,60 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+import com.nowakartur97.personalkanbanboardbackend.auth.JWTConfigurationProperties;
+import com.nowakartur97.personalkanbanboardbackend.auth.JWTUtil;
+import com.nowakartur97.personalkanbanboardbackend.auth.UserVerification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final static String SECRET_KEY = "8f9879e8-1afd-4a88-81b8-04d68f32fdaf-benchmark";
+
+    private UserMapper userMapper;
+    private UserEntity user;
+
+    @Setup
+    public void setUp() {
+        JWTConfigurationProperties.Cache cache = new JWTConfigurationProperties.Cache(true, 10000, Duration.ofMinutes(30));
+        JWTConfigurationProperties jwtConfigurationProperties = new JWTConfigurationProperties(SECRET_KEY, 10800000,
+                "Authorization", "Bearer", 7, cache, UserVerification.CLAIMS, cache);
+        JWTUtil jwtUtil = new JWTUtil(jwtConfigurationProperties);
+        jwtUtil.init();
+        userMapper = new UserMapper(jwtUtil, jwtConfigurationProperties);
+        user = UserEntity.builder()
+                .userId(UUID.randomUUID())
+                .username("user")
+                .email("user@domain.com")
+                .role(UserRole.USER)
+                .build();
+    }
+
+    // Dominated by signing of the token returned with the user
+    @Benchmark
+    public UserResponse mapToResponse() {
+        return userMapper.mapToResponse(user);
+    }
+
+    @Benchmark
+    public UserSummary mapToSummary() {
+        return userMapper.mapToSummary(user);
+    }
+}
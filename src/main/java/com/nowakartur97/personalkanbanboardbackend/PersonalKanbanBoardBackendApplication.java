@@ -73,10 +73,10 @@ public class PersonalKanbanBoardBackendApplication implements CommandLineRunner
                     .role(role)
                     .build();
 
-            userService.save(user).block();
+            user = userService.save(user).block();
         }
 
-        log.info("Token for user with {} role: {}", role.name(), jwtUtil.generateToken(user.getUsername(), user.getRole().name()));
+        log.info("Token for user with {} role: {}", role.name(), jwtUtil.generateToken(user.getUserId(), user.getUsername(), user.getRole().name()));
         return user;
     }
 
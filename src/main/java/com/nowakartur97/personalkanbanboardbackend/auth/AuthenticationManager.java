@@ -1,6 +1,5 @@
 package com.nowakartur97.personalkanbanboardbackend.auth;
 
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -9,32 +8,22 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
-import static com.nowakartur97.personalkanbanboardbackend.auth.JWTUtil.ROLE_CLAIM;
-
+// The principal of the given authentication is never trusted, claims are always taken from the verified token
 @Component
 @RequiredArgsConstructor
 public class AuthenticationManager implements ReactiveAuthenticationManager {
 
     private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
         String token = authentication.getCredentials().toString().trim();
-        String username = jwtUtil.extractUsername(token);
-        return Mono.just(jwtUtil.isTokenValid(token, username))
-                .filter(isTokenValid -> isTokenValid)
-                .switchIfEmpty(Mono.empty())
-                .map(isTokenValid -> {
-                    Claims claims = jwtUtil.extractAllClaims(token);
-                    List<String> rolesMap = claims.get(ROLE_CLAIM, List.class);
-                    return new UsernamePasswordAuthenticationToken(
-                            username,
-                            token,
-                            rolesMap.stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
-                    );
-                });
+        return Mono.fromCallable(() -> verifiedTokenCache.get(token, jwtUtil::parseClaims))
+                .map(claims -> new UsernamePasswordAuthenticationToken(
+                        claims,
+                        token,
+                        claims.roles().stream().map(SimpleGrantedAuthority::new).toList()
+                ));
     }
 }
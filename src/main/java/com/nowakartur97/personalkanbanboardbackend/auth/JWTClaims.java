@@ -0,0 +1,28 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+// Claims of a token whose signature and expiration were already verified
+public record JWTClaims(String username,
+                        UUID userId,
+                        List<String> roles,
+                        Instant expiration
+) implements AuthenticatedPrincipal {
+
+    public JWTClaims {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    JWTClaims withUserId(UUID userId) {
+        return new JWTClaims(username, userId, roles, expiration);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
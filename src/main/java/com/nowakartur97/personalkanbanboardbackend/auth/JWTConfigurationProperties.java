@@ -3,6 +3,9 @@ package com.nowakartur97.personalkanbanboardbackend.auth;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "app.jwt")
 @Getter
@@ -13,14 +16,27 @@ public final class JWTConfigurationProperties {
     private final String authorizationHeader;
     private final String authorizationType;
     private final int authorizationHeaderStartIndex;
+    private final Cache cache;
+    private final UserVerification userVerification;
+    private final Cache principalCache;
 
     @ConstructorBinding
     public JWTConfigurationProperties(String secretKey, long expirationTimeInMilliseconds,
-                                      String authorizationHeader, String authorizationType, int authorizationHeaderStartIndex) {
+                                      String authorizationHeader, String authorizationType, int authorizationHeaderStartIndex,
+                                      @DefaultValue Cache cache, @DefaultValue("DATABASE") UserVerification userVerification,
+                                      @DefaultValue Cache principalCache) {
         this.secretKey = secretKey;
         this.expirationTimeInMilliseconds = expirationTimeInMilliseconds;
         this.authorizationHeader = authorizationHeader;
         this.authorizationType = authorizationType;
         this.authorizationHeaderStartIndex = authorizationHeaderStartIndex;
+        this.cache = cache;
+        this.userVerification = userVerification;
+        this.principalCache = principalCache;
+    }
+
+    public record Cache(@DefaultValue("true") boolean enabled,
+                        @DefaultValue("10000") long maximumSize,
+                        @DefaultValue("30m") Duration timeToLive) {
     }
 }
@@ -1,6 +1,7 @@
 package com.nowakartur97.personalkanbanboardbackend.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -12,25 +13,38 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JWTUtil {
 
     public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "userId";
 
     private final JWTConfigurationProperties jwtConfigurationProperties;
 
     private SecretKey secretKey;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         secretKey = Keys.hmacShaKeyFor(jwtConfigurationProperties.getSecretKey().getBytes());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
+    public String generateToken(UUID userId, String username, String userRole) {
+        Map<String, Object> claims = Map.of(USER_ID_CLAIM, userId.toString(), ROLE_CLAIM, List.of(userRole));
+        return generateToken(claims, username);
+    }
+
+    // Tokens issued before the user id claim was introduced only carry the username and role
     public String generateToken(String username, String userRole) {
         Map<String, Object> claims = Map.of(ROLE_CLAIM, List.of(userRole));
+        return generateToken(claims, username);
+    }
+
+    private String generateToken(Map<String, Object> claims, String username) {
         return Jwts.builder()
                 .claims(claims)
                 .subject(username)
@@ -54,29 +68,15 @@ public class JWTUtil {
         return authorizationHeader.substring(jwtConfigurationProperties.getAuthorizationHeaderStartIndex());
     }
 
-    public String extractUsername(String token) {
-        String subject = extractClaim(token, Claims::getSubject);
-        return subject != null ? subject : "";
-    }
-
-    boolean isTokenValid(String token, String username) {
-        return (extractUsername(token).equals(username) && !isTokenExpired(token));
-    }
-
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claim = extractAllClaims(token);
-        return claimsResolver.apply(claim);
-    }
-
-    Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpirationDate(token).before(new Date(System.currentTimeMillis()));
-    }
-
-    private Date extractExpirationDate(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    // Verifies the signature and expiration of the token, which should be done only once per request
+    @SuppressWarnings("unchecked")
+    public JWTClaims parseClaims(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        String subject = claims.getSubject();
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return new JWTClaims(subject != null ? subject : "",
+                userId != null ? UUID.fromString(userId) : null,
+                claims.get(ROLE_CLAIM, List.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
     }
 }
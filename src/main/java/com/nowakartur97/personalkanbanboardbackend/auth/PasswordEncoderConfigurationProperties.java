@@ -0,0 +1,20 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.password-encoder")
+@Getter
+public final class PasswordEncoderConfigurationProperties {
+
+    private final int threads;
+    private final int queueCapacity;
+
+    @ConstructorBinding
+    public PasswordEncoderConfigurationProperties(@DefaultValue("4") int threads, @DefaultValue("100") int queueCapacity) {
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+    }
+}
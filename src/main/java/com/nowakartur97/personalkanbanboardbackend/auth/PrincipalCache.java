@@ -0,0 +1,73 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nowakartur97.personalkanbanboardbackend.changefeed.DatabaseChangeFeed;
+import com.nowakartur97.personalkanbanboardbackend.changefeed.DatabaseOperation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+// Users verified against the database by username, invalidated whenever a user is modified by any instance.
+// All of them are invalidated when the change feed could have missed modifications, after reconnecting.
+// Without change notifications (H2), only the users saved through UserService are invalidated right away,
+// the ones modified directly in the database are verified again once their time to live passes.
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final static String CACHE_NAME = "jwt.principals";
+
+    private final boolean enabled;
+    private final Cache<String, UserPrincipal> cache;
+
+    public PrincipalCache(JWTConfigurationProperties jwtConfigurationProperties, MeterRegistry meterRegistry,
+                          DatabaseChangeFeed databaseChangeFeed) {
+        JWTConfigurationProperties.Cache cacheProperties = jwtConfigurationProperties.getPrincipalCache();
+        this.enabled = cacheProperties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.timeToLive())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        databaseChangeFeed.changes(DatabaseChangeFeed.USERS_TABLE)
+                .subscribe(change -> {
+                    if (change.operation() == DatabaseOperation.RESET) {
+                        invalidateAll();
+                    } else {
+                        invalidate(change.username());
+                    }
+                });
+    }
+
+    Mono<UserPrincipal> get(String username, Function<String, Mono<UserPrincipal>> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        UserPrincipal userPrincipal = cache.getIfPresent(username);
+        if (userPrincipal != null) {
+            return Mono.just(userPrincipal);
+        }
+        return loader.apply(username)
+                .doOnNext(loadedUserPrincipal -> cache.put(username, loadedUserPrincipal));
+    }
+
+    public void invalidate(String username) {
+
+        log.info("Invalidating cached principal of user: '{}'", username);
+
+        cache.invalidate(username);
+    }
+
+    void invalidateAll() {
+
+        log.info("Invalidating all cached principals");
+
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,82 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt takes milliseconds per call, so it runs on its own bounded scheduler instead of the event loop
+@Component
+public class ReactivePasswordEncoder {
+
+    private final static String SCHEDULER_NAME = "password-encoder";
+    private final static String METRIC_NAME = "password.encoder";
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final Scheduler scheduler;
+    private final int maxPendingTasks;
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public ReactivePasswordEncoder(BCryptPasswordEncoder bCryptPasswordEncoder,
+                                   PasswordEncoderConfigurationProperties passwordEncoderConfigurationProperties,
+                                   MeterRegistry meterRegistry) {
+        int threads = passwordEncoderConfigurationProperties.getThreads();
+        int queueCapacity = passwordEncoderConfigurationProperties.getQueueCapacity();
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.scheduler = Schedulers.newBoundedElastic(threads, queueCapacity, SCHEDULER_NAME);
+        this.maxPendingTasks = threads + queueCapacity;
+        Gauge.builder(METRIC_NAME + ".pending", pendingTasks, AtomicInteger::get)
+                .description("Password operations running or waiting for a thread")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder(METRIC_NAME)
+                .description("Password operations latency, including the time spent waiting for a thread")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_NAME)
+                .description("Password operations latency, including the time spent waiting for a thread")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+    }
+
+    public Mono<String> encode(String rawPassword) {
+        return execute(() -> bCryptPasswordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return execute(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // Operations are rejected straight away once all threads are busy and the queue is full
+    private <T> Mono<T> execute(Callable<T> operation, Timer timer) {
+        return Mono.defer(() -> {
+            if (pendingTasks.incrementAndGet() > maxPendingTasks) {
+                pendingTasks.decrementAndGet();
+                return Mono.error(new TooManyRequestsException("authentication"));
+            }
+            long startTime = System.nanoTime();
+            return Mono.fromCallable(operation)
+                    .subscribeOn(scheduler)
+                    .doFinally(signalType -> {
+                        pendingTasks.decrementAndGet();
+                        timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                    });
+        });
+    }
+
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+}
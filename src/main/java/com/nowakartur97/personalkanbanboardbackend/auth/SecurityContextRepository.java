@@ -18,8 +18,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityContextRepository implements ServerSecurityContextRepository {
 
+    private final static String SECURITY_CONTEXT_ATTRIBUTE = SecurityContextRepository.class.getName() + ".SECURITY_CONTEXT";
+
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final JWTConfigurationProperties jwtConfigurationProperties;
+    private final PrincipalCache principalCache;
     private final UserService userService;
 
     @Override
@@ -27,18 +31,46 @@ public class SecurityContextRepository implements ServerSecurityContextRepositor
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    // The context is subscribed to by every secured data fetcher, so it is resolved once and shared within the exchange
     @Override
+    @SuppressWarnings("unchecked")
     public Mono<SecurityContext> load(ServerWebExchange serverWebExchange) {
-        return Mono.justOrEmpty(jwtUtil.getAuthorizationHeader(serverWebExchange))
+        return (Mono<SecurityContext>) serverWebExchange.getAttributes()
+                .computeIfAbsent(SECURITY_CONTEXT_ATTRIBUTE, key -> loadFromAuthorizationHeader(serverWebExchange).cache());
+    }
+
+    private Mono<SecurityContext> loadFromAuthorizationHeader(ServerWebExchange serverWebExchange) {
+        return load(jwtUtil.getAuthorizationHeader(serverWebExchange));
+    }
+
+    Mono<SecurityContext> load(String authorizationHeader) {
+        return Mono.justOrEmpty(authorizationHeader)
                 .filter(jwtUtil::isBearerTypeAuthorization)
                 .flatMap(authHeader -> {
                     String authToken = jwtUtil.getJWTFromHeader(authHeader);
-                    String username = jwtUtil.extractUsername(authToken);
-                    return userService.findByUsernameForAuthentication(username).flatMap(user -> {
-                        Authentication auth = new UsernamePasswordAuthenticationToken(user.getUsername(), authToken,
-                                List.of(new SimpleGrantedAuthority(user.getRole().name())));
-                        return authenticationManager.authenticate(auth).map(SecurityContextImpl::new);
-                    });
+                    Authentication auth = new UsernamePasswordAuthenticationToken(authToken, authToken);
+                    return authenticationManager.authenticate(auth)
+                            .flatMap(this::verifyUser)
+                            .map(SecurityContextImpl::new);
                 });
     }
+
+    // Tokens issued before the user id claim was introduced get the user id resolved through the principal cache
+    private Mono<Authentication> verifyUser(Authentication authentication) {
+        JWTClaims claims = (JWTClaims) authentication.getPrincipal();
+        boolean isClaimsVerification = jwtConfigurationProperties.getUserVerification() == UserVerification.CLAIMS;
+        if (isClaimsVerification && claims.userId() != null) {
+            return Mono.just(authentication);
+        }
+        return principalCache.get(claims.username(), this::findUserPrincipal)
+                .map(userPrincipal -> UsernamePasswordAuthenticationToken.authenticated(claims.withUserId(userPrincipal.userId()),
+                        authentication.getCredentials(), isClaimsVerification
+                                ? authentication.getAuthorities()
+                                : List.of(new SimpleGrantedAuthority(userPrincipal.role().name()))));
+    }
+
+    private Mono<UserPrincipal> findUserPrincipal(String username) {
+        return userService.findByUsernameForAuthentication(username)
+                .map(user -> new UserPrincipal(user.getUserId(), user.getRole()));
+    }
 }
@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+
+import java.util.UUID;
+
+public record UserPrincipal(UUID userId, UserRole role) {
+}
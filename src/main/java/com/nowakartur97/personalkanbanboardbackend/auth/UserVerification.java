@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+public enum UserVerification {
+    // Security context is built from the verified token claims only
+    CLAIMS,
+    // Token user has to exist and the role is read from the database
+    DATABASE
+}
@@ -0,0 +1,80 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+// Claims of already verified tokens, keyed by the SHA-256 digest of the token, so the raw tokens are never kept in memory
+@Component
+public class VerifiedTokenCache {
+
+    private final static String CACHE_NAME = "jwt.verified-tokens";
+
+    private final boolean enabled;
+    private final Cache<String, JWTClaims> cache;
+
+    public VerifiedTokenCache(JWTConfigurationProperties jwtConfigurationProperties, MeterRegistry meterRegistry) {
+        JWTConfigurationProperties.Cache cacheProperties = jwtConfigurationProperties.getCache();
+        this.enabled = cacheProperties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfter(new Expiry<String, JWTClaims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenDigest, JWTClaims claims, long currentTime) {
+                        return getTimeToLive(claims, cacheProperties.timeToLive()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenDigest, JWTClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenDigest, JWTClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    JWTClaims get(String token, Function<String, JWTClaims> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(digest(token), tokenDigest -> verifier.apply(token));
+    }
+
+    // An entry never outlives the token it was verified from
+    private Duration getTimeToLive(JWTClaims claims, Duration timeToLive) {
+        if (claims.expiration() == null) {
+            return timeToLive;
+        }
+        Duration untilExpiration = Duration.between(Instant.now(), claims.expiration());
+        if (untilExpiration.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiration.compareTo(timeToLive) < 0 ? untilExpiration : timeToLive;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -45,6 +45,10 @@ public class WebSecurityConfiguration {
                         .pathMatchers("/api/v1/user-data-validator").permitAll()
                         .pathMatchers("/graphiql").permitAll()
                         .pathMatchers("/graphql").permitAll() // TODO: Remove
+                        // Subscriptions are authenticated with the token sent in the connection_init message
+                        .pathMatchers("/graphql-ws").permitAll()
+                        // Served only on the management port, bound to the monitoring network, and scraped without a token
+                        .pathMatchers("/actuator/prometheus").permitAll()
                         .anyExchange().authenticated())
                 .build();
     }
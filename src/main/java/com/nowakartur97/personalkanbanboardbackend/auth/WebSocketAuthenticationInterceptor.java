@@ -0,0 +1,47 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.graphql.server.WebSocketGraphQlInterceptor;
+import org.springframework.graphql.server.WebSocketGraphQlRequest;
+import org.springframework.graphql.server.WebSocketSessionInfo;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+// Browsers cannot set headers on the WebSocket handshake, so the token is sent in the connection_init payload
+// under the same key as the authorization header and verified once for the whole connection
+@Component
+@RequiredArgsConstructor
+public class WebSocketAuthenticationInterceptor implements WebSocketGraphQlInterceptor {
+
+    private final static String SECURITY_CONTEXT_ATTRIBUTE = WebSocketAuthenticationInterceptor.class.getName() + ".SECURITY_CONTEXT";
+
+    private final SecurityContextRepository securityContextRepository;
+    private final JWTConfigurationProperties jwtConfigurationProperties;
+
+    @Override
+    public Mono<Object> handleConnectionInitialization(WebSocketSessionInfo sessionInfo, Map<String, Object> connectionInitPayload) {
+        Object authHeader = connectionInitPayload.get(jwtConfigurationProperties.getAuthorizationHeader());
+        if (!(authHeader instanceof String authorizationHeader)) {
+            return Mono.empty();
+        }
+        return securityContextRepository.load(authorizationHeader)
+                .doOnNext(securityContext -> sessionInfo.getAttributes().put(SECURITY_CONTEXT_ATTRIBUTE, securityContext))
+                .then(Mono.empty());
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        if (request instanceof WebSocketGraphQlRequest webSocketRequest
+                && webSocketRequest.getSessionInfo().getAttributes().get(SECURITY_CONTEXT_ATTRIBUTE) instanceof SecurityContext securityContext) {
+            return chain.next(request)
+                    .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(Mono.just(securityContext)));
+        }
+        return chain.next(request);
+    }
+}
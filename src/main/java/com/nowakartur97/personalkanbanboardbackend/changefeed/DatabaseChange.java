@@ -0,0 +1,11 @@
+package com.nowakartur97.personalkanbanboardbackend.changefeed;
+
+import java.util.UUID;
+
+// Username is set only for changes of users, id is not set for truncates and resets
+public record DatabaseChange(String table,
+                             DatabaseOperation operation,
+                             UUID id,
+                             String username
+) {
+}
@@ -0,0 +1,119 @@
+package com.nowakartur97.personalkanbanboardbackend.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Changes of tasks and users made by any instance, notified by the triggers of the tasks and users tables.
+// Every instance listens on its own connection, kept outside the pool, and fans the changes out to local subscribers.
+// Changes made while the connection is being reestablished are not delivered, a reset of every table is published
+// instead once the connection is back, so that subscribers drop whatever they derived from the missed changes.
+// Only Postgres supports notifications, with any other database the feed stays inactive.
+@Component
+@Slf4j
+public class DatabaseChangeFeed {
+
+    public final static String TASKS_TABLE = "tasks";
+    public final static String USERS_TABLE = "users";
+
+    private final static String CHANNEL = "personal_kanban_board_changes";
+    private final static Duration MIN_RECONNECT_BACKOFF = Duration.ofSeconds(1);
+    private final static Duration MAX_RECONNECT_BACKOFF = Duration.ofSeconds(30);
+    private final static Duration EMIT_RETRY_DURATION = Duration.ofMillis(100);
+
+    private final PostgresqlConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final Sinks.Many<DatabaseChange> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicBoolean listenedBefore = new AtomicBoolean();
+
+    private Disposable listener;
+
+    public DatabaseChangeFeed(ConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        this.connectionFactory = unwrap(connectionFactory);
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isActive() {
+        return connectionFactory != null;
+    }
+
+    public Flux<DatabaseChange> changes(String table) {
+        return sink.asFlux()
+                .filter(change -> change.table().equals(table));
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void start() {
+        if (!isActive()) {
+            log.info("Database does not support notifications, changes are visible only to the instance making them");
+            return;
+        }
+        if (listener != null) {
+            return;
+        }
+        listener = Flux.usingWhen(connectionFactory.create(), this::listen, PostgresqlConnection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_RECONNECT_BACKOFF)
+                        .maxBackoff(MAX_RECONNECT_BACKOFF)
+                        .doBeforeRetry(retrySignal -> log.warn("Listening for database changes failed, reconnecting", retrySignal.failure())))
+                .subscribe(change -> sink.emitNext(change, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION)));
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (listener != null) {
+            listener.dispose();
+            listener = null;
+        }
+    }
+
+    private Flux<DatabaseChange> listen(PostgresqlConnection connection) {
+        return connection.createStatement("LISTEN " + CHANNEL)
+                .execute()
+                .flatMap(PostgresqlResult::getRowsUpdated)
+                .then()
+                .doOnSuccess(ignored -> log.info("Listening for database changes on channel: '{}'", CHANNEL))
+                .thenMany(Flux.defer(() -> listenedBefore.getAndSet(true) ? resets() : Flux.empty()))
+                .concatWith(connection.getNotifications().mapNotNull(this::parse));
+    }
+
+    private Flux<DatabaseChange> resets() {
+        log.warn("Listening for database changes again, changes made in the meantime are published as resets");
+        return Flux.just(TASKS_TABLE, USERS_TABLE)
+                .map(table -> new DatabaseChange(table, DatabaseOperation.RESET, null, null));
+    }
+
+    private DatabaseChange parse(Notification notification) {
+        try {
+            return objectMapper.readValue(notification.getParameter(), DatabaseChange.class);
+        } catch (JsonProcessingException ex) {
+            log.error("Skipping database change with invalid payload: '{}'", notification.getParameter(), ex);
+            return null;
+        }
+    }
+
+    // Notifications are read from a dedicated connection, never from a pooled one
+    private static PostgresqlConnectionFactory unwrap(ConnectionFactory connectionFactory) {
+        Object unwrapped = connectionFactory;
+        while (!(unwrapped instanceof PostgresqlConnectionFactory) && unwrapped instanceof Wrapped<?> wrapped) {
+            unwrapped = wrapped.unwrap();
+        }
+        return unwrapped instanceof PostgresqlConnectionFactory postgresqlConnectionFactory ? postgresqlConnectionFactory : null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.nowakartur97.personalkanbanboardbackend.changefeed;
+
+// RESET is not a database operation, it is published by the feed itself when changes of a table may have been missed
+public enum DatabaseOperation {
+    INSERT, UPDATE, DELETE, TRUNCATE, RESET
+}
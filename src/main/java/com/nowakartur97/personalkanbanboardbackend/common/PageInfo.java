@@ -0,0 +1,4 @@
+package com.nowakartur97.personalkanbanboardbackend.common;
+
+public record PageInfo(boolean hasNextPage, String endCursor) {
+}
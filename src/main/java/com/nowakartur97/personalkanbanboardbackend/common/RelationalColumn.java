@@ -0,0 +1,20 @@
+package com.nowakartur97.personalkanbanboardbackend.common;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.data.relational.core.mapping.Column;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Column of a property for Spring Data R2DBC, which ignores the name set by the JPA column annotation.
+// Needed only where the column name does not follow from the property name.
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Column
+public @interface RelationalColumn {
+
+    @AliasFor(annotation = Column.class, attribute = "value")
+    String value();
+}
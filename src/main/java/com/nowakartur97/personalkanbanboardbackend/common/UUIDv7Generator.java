@@ -0,0 +1,42 @@
+package com.nowakartur97.personalkanbanboardbackend.common;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Time-ordered UUIDs (RFC 9562, version 7): 48 bits of Unix epoch milliseconds, then a 12 bit counter in place
+// of random bits, so ids generated by this instance increase even within the same millisecond.
+// The timestamp and the counter are kept in one atomic value and advanced with compare and set, without locking.
+// When the counter overflows, it carries into the timestamp, which keeps the ids increasing.
+public final class UUIDv7Generator {
+
+    private final static int COUNTER_BITS = 12;
+    private final static long VERSION = 0x7000L;
+    private final static long VARIANT = 0x8000000000000000L;
+    private final static long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final static AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    private UUIDv7Generator() {
+    }
+
+    public static UUID generate() {
+        long timestampAndCounter = nextTimestampAndCounter();
+        long mostSigBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION
+                | (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static long nextTimestampAndCounter() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        while (true) {
+            long last = LAST_TIMESTAMP_AND_COUNTER.get();
+            long next = Math.max(now, last + 1);
+            if (LAST_TIMESTAMP_AND_COUNTER.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
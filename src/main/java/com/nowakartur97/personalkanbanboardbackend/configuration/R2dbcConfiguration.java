@@ -0,0 +1,17 @@
+package com.nowakartur97.personalkanbanboardbackend.configuration;
+
+import com.nowakartur97.personalkanbanboardbackend.task.TaskCodeConverters;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+@Configuration
+public class R2dbcConfiguration {
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), TaskCodeConverters.getConverters());
+    }
+}
@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+
+    public BatchTooLargeException(int batchSize, int maxBatchSize) {
+        super("Batch of: '" + batchSize + "' items exceeds the maximum of: '" + maxBatchSize + "' items.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.nowakartur97.personalkanbanboardbackend.exception;
+
+import graphql.ErrorClassification;
+
+// Error types not covered by org.springframework.graphql.execution.ErrorType
+public enum CustomErrorType implements ErrorClassification {
+    TOO_MANY_REQUESTS,
+    CONFLICT
+}
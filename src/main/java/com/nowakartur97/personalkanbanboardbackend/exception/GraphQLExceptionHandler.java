@@ -1,5 +1,6 @@
 package com.nowakartur97.personalkanbanboardbackend.exception;
 
+import graphql.ErrorClassification;
 import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
 import graphql.schema.DataFetchingEnvironment;
@@ -7,6 +8,7 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.graphql.execution.ErrorType;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -33,7 +35,9 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
     protected List<GraphQLError> resolveToMultipleErrors(Throwable ex, DataFetchingEnvironment env) {
         if (ex instanceof ConstraintViolationException) {
             return mapToGraphQLErrors(ErrorType.BAD_REQUEST, ex, env);
-        } else if (ex instanceof UserAlreadyExistsException) {
+        } else if (ex instanceof UserAlreadyExistsException
+                || ex instanceof InvalidCursorException
+                || ex instanceof BatchTooLargeException) {
             return List.of(createGraphQLError(ErrorType.BAD_REQUEST, ex.getMessage(), env));
         } else if (ex instanceof MalformedJwtException
                 || ex instanceof SignatureException
@@ -42,6 +46,10 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
             return List.of(createGraphQLError(ErrorType.UNAUTHORIZED, ex.getMessage(), env));
         } else if (ex instanceof ResourceNotFoundException) {
             return List.of(createGraphQLError(ErrorType.NOT_FOUND, ex.getMessage(), env));
+        } else if (ex instanceof TooManyRequestsException) {
+            return List.of(createGraphQLError(CustomErrorType.TOO_MANY_REQUESTS, ex.getMessage(), env));
+        } else if (ex instanceof OptimisticLockingFailureException) {
+            return List.of(createGraphQLError(CustomErrorType.CONFLICT, ex.getMessage(), env));
         }
         return null;
     }
@@ -57,7 +65,7 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
                 .toList();
     }
 
-    private GraphQLError createGraphQLError(ErrorType errorType, String message, DataFetchingEnvironment env) {
+    private GraphQLError createGraphQLError(ErrorClassification errorType, String message, DataFetchingEnvironment env) {
         return GraphqlErrorBuilder.newError()
                 .errorType(errorType)
                 .message(message)
@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor: '" + cursor + "' is invalid.");
+    }
+}
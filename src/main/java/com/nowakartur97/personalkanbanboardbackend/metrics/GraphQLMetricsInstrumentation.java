@@ -0,0 +1,154 @@
+package com.nowakartur97.personalkanbanboardbackend.metrics;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLError;
+import graphql.execution.DataFetcherResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Latency histograms of operations and of fields with their own data fetchers, errors by type and sizes of list results.
+// Fields read from the parent object by the default property data fetcher are not measured.
+// Operations are tagged by their type only, as operation names are chosen by the clients and would make the number
+// of meters unbounded. Parent types and fields come from the schema, so their meters are created once and reused.
+@Component
+@RequiredArgsConstructor
+public class GraphQLMetricsInstrumentation extends SimplePerformantInstrumentation {
+
+    final static String OPERATION_METRIC_NAME = "graphql.operation";
+    final static String FIELD_METRIC_NAME = "graphql.field";
+    final static String FIELD_RESULT_SIZE_METRIC_NAME = "graphql.field.result.size";
+    final static String ERRORS_METRIC_NAME = "graphql.errors";
+
+    // Documents failing to parse or validate never reach the execution of an operation
+    private final static String UNKNOWN_OPERATION_TYPE = "unknown";
+    private final static String SUCCESS_OUTCOME = "SUCCESS";
+    private final static String ERROR_OUTCOME = "ERROR";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<OperationMeterKey, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<FieldMeterKey, Timer> fieldTimers = new ConcurrentHashMap<>();
+    private final Map<FieldMeterKey, DistributionSummary> fieldResultSizeSummaries = new ConcurrentHashMap<>();
+    private final Map<ErrorMeterKey, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+        return new OperationState();
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters,
+                                                                  InstrumentationState state) {
+        OperationState operationState = (OperationState) state;
+        long startTime = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, ex) -> {
+            String operationType = operationState.operationType;
+            boolean failed = ex != null || (result != null && !result.getErrors().isEmpty());
+            getOperationTimer(new OperationMeterKey(operationType, failed ? ERROR_OUTCOME : SUCCESS_OUTCOME))
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            if (result != null) {
+                result.getErrors().forEach(error -> countError(operationType, error));
+            }
+        });
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters,
+                                                                         InstrumentationState state) {
+        ((OperationState) state).operationType = parameters.getExecutionContext().getOperationDefinition().getOperation()
+                .name().toLowerCase(Locale.ROOT);
+        return SimpleInstrumentationContext.noOp();
+    }
+
+    @Override
+    public InstrumentationContext<Object> beginFieldFetch(InstrumentationFieldFetchParameters parameters,
+                                                          InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return SimpleInstrumentationContext.noOp();
+        }
+        String parentType = parameters.getExecutionStepInfo().getObjectType().getName();
+        String field = parameters.getField().getName();
+        long startTime = System.nanoTime();
+        return SimpleInstrumentationContext.whenCompleted((result, ex) -> {
+            getFieldTimer(new FieldMeterKey(parentType, field, ex != null ? ERROR_OUTCOME : SUCCESS_OUTCOME))
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            Object data = result instanceof DataFetcherResult<?> dataFetcherResult ? dataFetcherResult.getData() : result;
+            if (data instanceof Collection<?> collection) {
+                getFieldResultSizeSummary(new FieldMeterKey(parentType, field, null)).record(collection.size());
+            }
+        });
+    }
+
+    private Timer getOperationTimer(OperationMeterKey key) {
+        return operationTimers.computeIfAbsent(key, k -> Timer.builder(OPERATION_METRIC_NAME)
+                .description("GraphQL operations latency")
+                .tag("operationType", k.operationType())
+                .tag("outcome", k.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Timer getFieldTimer(FieldMeterKey key) {
+        return fieldTimers.computeIfAbsent(key, k -> Timer.builder(FIELD_METRIC_NAME)
+                .description("GraphQL data fetchers latency, until the fetched value is available")
+                .tag("parent", k.parentType())
+                .tag("field", k.field())
+                .tag("outcome", k.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary getFieldResultSizeSummary(FieldMeterKey key) {
+        return fieldResultSizeSummaries.computeIfAbsent(key, k -> DistributionSummary.builder(FIELD_RESULT_SIZE_METRIC_NAME)
+                .description("Number of elements of GraphQL list fields")
+                .baseUnit("elements")
+                .tag("parent", k.parentType())
+                .tag("field", k.field())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // The error type is the classification set by GraphQLExceptionHandler, or the one set by graphql-java itself
+    private void countError(String operationType, GraphQLError error) {
+        String errorType = error.getErrorType() != null ? error.getErrorType().toString() : "UNKNOWN";
+        errorCounters.computeIfAbsent(new ErrorMeterKey(operationType, errorType), k -> Counter.builder(ERRORS_METRIC_NAME)
+                        .description("GraphQL errors by type")
+                        .tag("operationType", k.operationType())
+                        .tag("errorType", k.errorType())
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static class OperationState implements InstrumentationState {
+
+        private volatile String operationType = UNKNOWN_OPERATION_TYPE;
+    }
+
+    private record OperationMeterKey(String operationType, String outcome) {
+    }
+
+    // The outcome is left out of the keys of the result size summaries
+    private record FieldMeterKey(String parentType, String field, String outcome) {
+    }
+
+    private record ErrorMeterKey(String operationType, String errorType) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// Every task of a batch is written in a single transaction, the maximum size bounds how long it holds its locks.
+// The default spans two insert chunks of TaskBatchRepository, so an import of 10000 tasks takes 10 mutations.
+@ConfigurationProperties(prefix = "app.task-batch")
+@Getter
+public final class TaskBatchConfigurationProperties {
+
+    private final int maxSize;
+
+    @ConstructorBinding
+    public TaskBatchConfigurationProperties(@DefaultValue("1000") int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,125 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Writes many tasks with as few statements as possible, the caller is responsible for the transaction
+@Repository
+@RequiredArgsConstructor
+public class TaskBatchRepository {
+
+    private final static int INSERT_CHUNK_SIZE = 500;
+    private final static String INSERT_SQL = """
+            INSERT INTO personal_kanban_board.tasks
+            (task_id, title, description, status_code, priority_code, target_end_date, assigned_to, created_by, created_on, version)
+            VALUES
+            """;
+    private final static String UPDATE_SQL = """
+            UPDATE personal_kanban_board.tasks
+            SET title = $1, description = $2, status_code = $3, priority_code = $4, target_end_date = $5,
+                assigned_to = $6, updated_by = $7, updated_on = $8, version = version + 1
+            WHERE task_id = $9 AND version = COALESCE($10, version)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    // Ids have to be set up front, H2 cannot return the generated keys of a multi row insert
+    Mono<Void> insertAll(List<TaskEntity> tasks) {
+        return Flux.fromIterable(tasks)
+                .buffer(INSERT_CHUNK_SIZE)
+                .concatMap(this::insertChunk)
+                .then();
+    }
+
+    private Mono<Long> insertChunk(List<TaskEntity> tasks) {
+        StringBuilder sql = new StringBuilder(INSERT_SQL);
+        for (int i = 0; i < tasks.size(); i++) {
+            sql.append(i == 0 ? "" : ",\n")
+                    .append("(:taskId").append(i)
+                    .append(", :title").append(i)
+                    .append(", :description").append(i)
+                    .append(", :status").append(i)
+                    .append(", :priority").append(i)
+                    .append(", :targetEndDate").append(i)
+                    .append(", :assignedTo").append(i)
+                    .append(", :createdBy").append(i)
+                    .append(", :createdOn").append(i)
+                    .append(", :version").append(i)
+                    .append(")");
+        }
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskEntity task = tasks.get(i);
+            executeSpec = executeSpec.bind("taskId" + i, task.getTaskId())
+                    .bind("title" + i, task.getTitle());
+            executeSpec = bind(executeSpec, "description" + i, task.getDescription(), String.class)
+                    .bind("status" + i, task.getStatus().getCode())
+                    .bind("priority" + i, task.getPriority().getCode());
+            executeSpec = bind(executeSpec, "targetEndDate" + i, task.getTargetEndDate(), LocalDate.class)
+                    .bind("assignedTo" + i, task.getAssignedTo())
+                    .bind("createdBy" + i, task.getCreatedBy())
+                    .bind("createdOn" + i, task.getCreatedOn())
+                    .bind("version" + i, task.getVersion());
+        }
+        return executeSpec.fetch().rowsUpdated();
+    }
+
+    // One statement with a binding per task, sent to the database at once. The version of a task is the one the client
+    // has seen, the task is updated only when it is still current. A task without a version is updated regardless.
+    // The database returns a result per binding in order, so the updated tasks are told apart by their index.
+    Mono<Set<UUID>> updateAll(List<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        return databaseClient.inConnectionMany(connection -> {
+                    Statement statement = connection.createStatement(UPDATE_SQL);
+                    for (int i = 0; i < tasks.size(); i++) {
+                        if (i > 0) {
+                            statement.add();
+                        }
+                        TaskEntity task = tasks.get(i);
+                        statement.bind(0, task.getTitle());
+                        bind(statement, 1, task.getDescription(), String.class);
+                        statement.bind(2, task.getStatus().getCode())
+                                .bind(3, task.getPriority().getCode());
+                        bind(statement, 4, task.getTargetEndDate(), LocalDate.class);
+                        statement.bind(5, task.getAssignedTo())
+                                .bind(6, task.getUpdatedBy());
+                        bind(statement, 7, task.getUpdatedOn(), Instant.class);
+                        statement.bind(8, task.getTaskId());
+                        bind(statement, 9, task.getVersion(), Long.class);
+                    }
+                    return Flux.from(statement.execute())
+                            .concatMap(Result::getRowsUpdated);
+                })
+                .index()
+                .filter(rowsUpdated -> rowsUpdated.getT2() > 0)
+                .map(rowsUpdated -> tasks.get(rowsUpdated.getT1().intValue()).getTaskId())
+                .collect(Collectors.toSet());
+    }
+
+    private DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec executeSpec, String name,
+                                                   Object value, Class<?> type) {
+        return value != null ? executeSpec.bind(name, value) : executeSpec.bindNull(name, type);
+    }
+
+    private void bind(Statement statement, int index, Object value, Class<?> type) {
+        if (value != null) {
+            statement.bind(index, value);
+        } else {
+            statement.bindNull(index, type);
+        }
+    }
+}
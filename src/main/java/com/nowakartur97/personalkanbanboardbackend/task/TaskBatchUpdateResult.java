@@ -0,0 +1,9 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Tasks neither updated nor conflicting do not exist
+record TaskBatchUpdateResult(List<TaskEntity> updatedTasks, Set<UUID> conflictingTaskIds) {
+}
@@ -0,0 +1,10 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.util.UUID;
+
+// Task is not set for deleted tasks, neither task nor its id is set for resets
+public record TaskChange(TaskChangeType type,
+                         UUID taskId,
+                         TaskResponse task
+) {
+}
@@ -0,0 +1,161 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.changefeed.DatabaseChange;
+import com.nowakartur97.personalkanbanboardbackend.changefeed.DatabaseChangeFeed;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+public class TaskChangePublisher {
+
+    private final static int SUBSCRIBER_BUFFER_SIZE = 256;
+    private final static int CHANGES_BUFFER_SIZE = 10000;
+    private final static int CHANGES_BATCH_SIZE = 500;
+    private final static Duration CHANGES_BATCH_TIMEOUT = Duration.ofMillis(50);
+    private final static Duration EMIT_RETRY_DURATION = Duration.ofMillis(100);
+
+    private final UserService userService;
+    private final TaskMapper taskMapper;
+    private final TaskRepository taskRepository;
+    private final DatabaseChangeFeed databaseChangeFeed;
+
+    // Slow subscribers never hold the sink back, each one has its own bounded buffer instead
+    private final Sinks.Many<TaskChange> sink = Sinks.many().multicast().directBestEffort();
+
+    // With an active database change feed changes of all instances, including this one, are published from the feed.
+    // Notifications are handled in batches, so that a bulk import is read back with a few queries instead of one per task.
+    public TaskChangePublisher(UserService userService, TaskMapper taskMapper, TaskRepository taskRepository,
+                               DatabaseChangeFeed databaseChangeFeed) {
+        this.userService = userService;
+        this.taskMapper = taskMapper;
+        this.taskRepository = taskRepository;
+        this.databaseChangeFeed = databaseChangeFeed;
+        databaseChangeFeed.changes(DatabaseChangeFeed.TASKS_TABLE)
+                .onBackpressureBuffer(CHANGES_BUFFER_SIZE,
+                        change -> log.warn("Dropping change of task: '{}', publishing is behind the change feed", change.id()),
+                        BufferOverflowStrategy.DROP_OLDEST)
+                .bufferTimeout(CHANGES_BATCH_SIZE, CHANGES_BATCH_TIMEOUT, true)
+                .concatMap(this::publish)
+                .subscribe();
+    }
+
+    // When the buffer of a subscriber is full its oldest changes are dropped, so it always ends up with the latest ones
+    Flux<TaskChange> subscribe() {
+        return sink.asFlux()
+                .onBackpressureBuffer(SUBSCRIBER_BUFFER_SIZE,
+                        taskChange -> log.warn("Dropping change of task: '{}' for a slow subscriber", taskChange.taskId()),
+                        BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    Mono<Void> publish(TaskChangeType type, TaskEntity task) {
+        return publish(type, List.of(task));
+    }
+
+    Mono<Void> publish(TaskChangeType type, List<TaskEntity> tasks) {
+        if (databaseChangeFeed.isActive()) {
+            return Mono.empty();
+        }
+        return publishWithUsernames(tasks, taskId -> type);
+    }
+
+    void publishDeleted(UUID taskId) {
+        publishDeleted(List.of(taskId));
+    }
+
+    void publishDeleted(Collection<UUID> taskIds) {
+        if (!databaseChangeFeed.isActive()) {
+            taskIds.forEach(taskId -> emit(new TaskChange(TaskChangeType.DELETED, taskId, null)));
+        }
+    }
+
+    void publishReset() {
+        if (!databaseChangeFeed.isActive()) {
+            emit(new TaskChange(TaskChangeType.RESET, null, null));
+        }
+    }
+
+    // Changed tasks are read again only when someone is subscribed, all of them at once, tasks deleted in the meantime
+    // are skipped. A task inserted and updated within the batch is published once, as created.
+    // A truncate drops the changes of the batch before it and is published as a reset. Resets of the feed carry no task,
+    // the changes it has missed are not published.
+    private Mono<Void> publish(List<DatabaseChange> changes) {
+        Map<UUID, TaskChangeType> typesByTaskId = new LinkedHashMap<>();
+        for (DatabaseChange change : changes) {
+            switch (change.operation()) {
+                case DELETE -> {
+                    typesByTaskId.remove(change.id());
+                    emit(new TaskChange(TaskChangeType.DELETED, change.id(), null));
+                }
+                case INSERT -> typesByTaskId.putIfAbsent(change.id(), TaskChangeType.CREATED);
+                case UPDATE -> typesByTaskId.putIfAbsent(change.id(), TaskChangeType.UPDATED);
+                case TRUNCATE -> {
+                    typesByTaskId.clear();
+                    emit(new TaskChange(TaskChangeType.RESET, null, null));
+                }
+                case RESET -> {
+                }
+            }
+        }
+        if (sink.currentSubscriberCount() == 0 || typesByTaskId.isEmpty()) {
+            return Mono.empty();
+        }
+        List<UUID> taskIds = List.copyOf(typesByTaskId.keySet());
+        return taskRepository.findAllById(taskIds)
+                .collectMap(TaskEntity::getTaskId)
+                .map(tasksByTaskId -> taskIds.stream()
+                        .map(tasksByTaskId::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .flatMap(tasks -> publishWithUsernames(tasks, typesByTaskId::get))
+                .onErrorResume(ex -> {
+                    log.error("Reading {} changed tasks failed", taskIds.size(), ex);
+                    return Mono.empty();
+                });
+    }
+
+    // Usernames of all the tasks are looked up at once
+    private Mono<Void> publishWithUsernames(List<TaskEntity> tasks, Function<UUID, TaskChangeType> typeOfTask) {
+        if (sink.currentSubscriberCount() == 0 || tasks.isEmpty()) {
+            return Mono.empty();
+        }
+        return userService.findAllByIds(getUserIds(tasks))
+                .collectMap(UserEntity::getUserId, UserEntity::getUsername)
+                .map(usernamesByUserId -> taskMapper.mapToResponse(tasks, usernamesByUserId))
+                .doOnNext(taskResponses -> taskResponses.forEach(taskResponse ->
+                        emit(new TaskChange(typeOfTask.apply(taskResponse.taskId()), taskResponse.taskId(), taskResponse))))
+                .onErrorResume(ex -> {
+                    log.error("Publishing changes of {} tasks failed", tasks.size(), ex);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void emit(TaskChange taskChange) {
+        sink.emitNext(taskChange, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
+    }
+
+    private List<UUID> getUserIds(List<TaskEntity> tasks) {
+        return tasks.stream()
+                .flatMap(task -> Stream.of(task.getCreatedBy(), task.getUpdatedBy(), task.getAssignedTo()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
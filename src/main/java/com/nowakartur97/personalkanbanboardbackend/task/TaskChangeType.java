@@ -0,0 +1,6 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+// RESET tells that all tasks were deleted at once, without a change per task
+public enum TaskChangeType {
+    CREATED, UPDATED, DELETED, RESET
+}
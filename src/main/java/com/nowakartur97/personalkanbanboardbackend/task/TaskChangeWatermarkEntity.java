@@ -0,0 +1,44 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+// Clients whose synced data was read before a watermark can no longer be brought up to date with changes only
+@Entity
+@Table(name = "task_change_watermarks", schema = "personal_kanban_board")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeWatermarkEntity {
+
+    // Tombstones deleted before this point in time are pruned
+    public final static String TOMBSTONES_PRUNED = "TOMBSTONES_PRUNED";
+    // All tasks were deleted at once at this point in time, without a tombstone per task
+    public final static String BOARD_RESET = "BOARD_RESET";
+
+    @Id
+    @Column(name = "name", updatable = false)
+    private String name;
+    @Column(name = "watermark", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Instant watermark;
+
+    @Override
+    public String toString() {
+        return "TaskChangeWatermarkEntity{" +
+                "name='" + name + '\'' +
+                ", watermark=" + watermark +
+                '}';
+    }
+}
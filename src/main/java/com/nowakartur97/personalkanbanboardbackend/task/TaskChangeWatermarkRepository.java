@@ -0,0 +1,22 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface TaskChangeWatermarkRepository extends R2dbcRepository<TaskChangeWatermarkEntity, String> {
+
+    // Watermarks only move forward, whichever instance advances them first
+    @Modifying
+    @Query("""
+            UPDATE personal_kanban_board.task_change_watermarks
+            SET watermark = :watermark
+            WHERE name = :name AND watermark < :watermark
+            """)
+    Mono<Long> advance(String name, Instant watermark);
+}
@@ -0,0 +1,27 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// Changes are timestamped by the instance making them when they are written, not when they are committed, so the
+// settle delay has to exceed the longest write transaction plus the clock skew between instances
+@ConfigurationProperties(prefix = "app.task-changes")
+@Getter
+public final class TaskChangesConfigurationProperties {
+
+    private final Duration settleDelay;
+    private final Duration tombstoneRetention;
+    private final Duration tombstonePruneInterval;
+
+    @ConstructorBinding
+    public TaskChangesConfigurationProperties(@DefaultValue("5s") Duration settleDelay, @DefaultValue("30d") Duration tombstoneRetention,
+                                              @DefaultValue("1h") Duration tombstonePruneInterval) {
+        this.settleDelay = settleDelay;
+        this.tombstoneRetention = tombstoneRetention;
+        this.tombstonePruneInterval = tombstonePruneInterval;
+    }
+}
@@ -0,0 +1,40 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque position of a client syncing task changes: the last change it has received, in the (changed on, task_id)
+// ordering, and when the sync it continues has started, which tells whether it may hold tasks whose deletion can no
+// longer be reported to it. Cursors without the start of the sync are taken as started at their position.
+record TaskChangesCursor(TaskCursor position, Instant syncedOn) {
+
+    private static final String SEPARATOR = "|";
+    private static final UUID MAX_TASK_ID = new UUID(-1L, -1L);
+
+    // Position after every change made until the given point in time
+    static TaskChangesCursor endOf(Instant until, Instant syncedOn) {
+        return new TaskChangesCursor(new TaskCursor(until, MAX_TASK_ID), syncedOn);
+    }
+
+    static TaskChangesCursor decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            TaskCursor position = new TaskCursor(Instant.parse(parts[0]), UUID.fromString(parts[1]));
+            return new TaskChangesCursor(position, parts.length > 2 ? Instant.parse(parts[2]) : position.timestamp());
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        String cursor = position.timestamp().toString() + SEPARATOR + position.taskId() + SEPARATOR + syncedOn;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
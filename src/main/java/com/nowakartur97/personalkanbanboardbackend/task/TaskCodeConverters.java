@@ -0,0 +1,59 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import java.util.List;
+
+// Task statuses and priorities are stored as small integer codes instead of enum names
+public final class TaskCodeConverters {
+
+    private TaskCodeConverters() {
+    }
+
+    public static List<Converter<?, ?>> getConverters() {
+        return List.of(TaskStatusToCodeConverter.INSTANCE, CodeToTaskStatusConverter.INSTANCE,
+                TaskPriorityToCodeConverter.INSTANCE, CodeToTaskPriorityConverter.INSTANCE);
+    }
+
+    @WritingConverter
+    enum TaskStatusToCodeConverter implements Converter<TaskStatus, Short> {
+        INSTANCE;
+
+        @Override
+        public Short convert(TaskStatus status) {
+            return status.getCode();
+        }
+    }
+
+    @ReadingConverter
+    enum CodeToTaskStatusConverter implements Converter<Short, TaskStatus> {
+        INSTANCE;
+
+        @Override
+        public TaskStatus convert(Short code) {
+            return TaskStatus.fromCode(code);
+        }
+    }
+
+    @WritingConverter
+    enum TaskPriorityToCodeConverter implements Converter<TaskPriority, Short> {
+        INSTANCE;
+
+        @Override
+        public Short convert(TaskPriority priority) {
+            return priority.getCode();
+        }
+    }
+
+    @ReadingConverter
+    enum CodeToTaskPriorityConverter implements Converter<Short, TaskPriority> {
+        INSTANCE;
+
+        @Override
+        public TaskPriority convert(Short code) {
+            return TaskPriority.fromCode(code);
+        }
+    }
+}
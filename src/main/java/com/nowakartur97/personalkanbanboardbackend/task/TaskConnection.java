@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.common.PageInfo;
+
+import java.util.List;
+
+public record TaskConnection(List<TaskEdge> edges, PageInfo pageInfo) {
+}
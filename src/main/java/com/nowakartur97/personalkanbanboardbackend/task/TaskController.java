@@ -1,116 +1,154 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
-import com.nowakartur97.personalkanbanboardbackend.auth.JWTUtil;
+import com.nowakartur97.personalkanbanboardbackend.auth.JWTClaims;
+import com.nowakartur97.personalkanbanboardbackend.exception.BatchTooLargeException;
+import com.nowakartur97.personalkanbanboardbackend.exception.ResourceNotFoundException;
 import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
 import com.nowakartur97.personalkanbanboardbackend.user.UserService;
-import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.nowakartur97.personalkanbanboardbackend.auth.AuthorizationHeaderInterceptor.TOKEN_IN_CONTEXT;
-
 @Controller
 @RequiredArgsConstructor
 @PreAuthorize("hasAuthority('USER')")
 public class TaskController {
 
+    private final static int DEFAULT_PAGE_SIZE = 20;
+    private final static String TASK_ID_FIELD = "taskId";
+    private final static Set<String> TASK_FIELDS = Set.of(TASK_ID_FIELD, "title", "description", "status", "priority",
+            "targetEndDate", "createdBy", "createdOn", "updatedBy", "updatedOn", "assignedTo", "version");
+
     private final TaskService taskService;
     private final UserService userService;
-    private final JWTUtil jwtUtil;
     private final TaskMapper taskMapper;
+    private final TaskBatchConfigurationProperties taskBatchConfigurationProperties;
 
+    // Tasks are mapped one by one as they are read from the database, without holding them all.
+    // Usernames are resolved only when selected, through the user DataLoader of the request.
     @QueryMapping
-    public Flux<TaskResponse> tasks() {
-        Mono<List<TaskEntity>> allTasks = taskService.findAll().collectList();
-        return mapToTasksResponse(allTasks);
+    public Flux<TaskResponse> tasks(@Argument TaskFilter filter, @Argument List<TaskSort> sort,
+                                    DataFetchingFieldSelectionSet selectionSet) {
+        return taskService.findAll(filter, sort, getSelectedFields(selectionSet))
+                .map(taskMapper::mapToResponse);
     }
 
     @QueryMapping
-    public Flux<TaskResponse> tasksAssignedTo(@Argument UUID assignedToId) {
-        Mono<List<TaskEntity>> assignedToUserTasks = taskService.findAllByAssignedTo(assignedToId).collectList();
-        return mapToTasksResponse(assignedToUserTasks);
-    }
-
-    private Flux<TaskResponse> mapToTasksResponse(Mono<List<TaskEntity>> tasksList) {
-        return tasksList
-                .map(tasks -> Stream.of(
-                                getUuidsFromTasksByProperty(tasks, TaskEntity::getCreatedBy),
-                                getUuidsFromTasksByProperty(tasks, TaskEntity::getUpdatedBy),
-                                getUuidsFromTasksByProperty(tasks, TaskEntity::getAssignedTo))
-                        .flatMap(Collection::stream)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toSet()))
-                .flatMap(userIds -> userService.findAllByIds(userIds.stream().toList()).collectList())
-                .zipWith(tasksList)
-                .flatMapIterable(tuple -> tuple.getT2().stream()
-                        .map(task -> taskMapper.mapToResponse(task, tuple.getT1()))
-                        .toList());
+    public Flux<TaskResponse> tasksAssignedTo(@Argument UUID assignedToId, DataFetchingFieldSelectionSet selectionSet) {
+        return taskService.findAllByAssignedTo(assignedToId, getSelectedFields(selectionSet))
+                .map(taskMapper::mapToResponse);
+    }
+
+    @QueryMapping
+    public Mono<TaskConnection> tasksConnection(@Argument Integer first, @Argument String after) {
+        int pageSize = getPageSize(first);
+        Flux<TaskEntity> tasksPage = taskService.findAll(pageSize + 1, TaskCursor.decode(after));
+        return mapToTaskConnection(tasksPage, pageSize);
+    }
+
+    @QueryMapping
+    public Mono<TaskConnection> tasksAssignedToConnection(@Argument UUID assignedToId, @Argument Integer first,
+                                                          @Argument String after) {
+        int pageSize = getPageSize(first);
+        Flux<TaskEntity> tasksPage = taskService.findAllByAssignedTo(assignedToId, pageSize + 1, TaskCursor.decode(after));
+        return mapToTaskConnection(tasksPage, pageSize);
+    }
+
+    private Mono<TaskConnection> mapToTaskConnection(Flux<TaskEntity> tasksPage, int pageSize) {
+        return tasksPage.collectList()
+                .map(tasks -> {
+                    boolean hasNextPage = tasks.size() > pageSize;
+                    List<TaskEntity> pageTasks = hasNextPage ? tasks.subList(0, pageSize) : tasks;
+                    return taskMapper.mapToConnection(pageTasks, hasNextPage);
+                });
+    }
+
+    // Without a point in time all tasks are returned, each page is followed with its end cursor.
+    // Clients keep the end cursor of their last sync to ask for the changes made after it.
+    @QueryMapping
+    public Mono<TasksDelta> tasksChangedSince(@Argument OffsetDateTime since, @Argument Integer first, @Argument String cursor) {
+        int pageSize = getPageSize(first);
+        TaskChangesCursor changesCursor = TaskChangesCursor.decode(cursor);
+        TaskCursor after = changesCursor != null ? changesCursor.position() : null;
+        Instant changedSince = since != null ? since.toInstant() : Instant.EPOCH;
+        Instant until = taskService.getChangesSettledUntil();
+        Instant syncedOn = getSyncedOn(changesCursor, since, until);
+        Instant seenUntil = Collections.max(List.of(syncedOn, after != null ? after.timestamp() : changedSince));
+        Mono<List<TaskEntity>> changedTasks = taskService.findAllChangedSince(changedSince, until, pageSize + 1, after).collectList();
+        Mono<List<TaskTombstoneEntity>> deletedTasks = taskService.findAllDeletedSince(changedSince, until, pageSize + 1, after).collectList();
+        // The watermark is checked only after the tombstones are read, so a tombstone pruned in the meantime is not missed
+        return Mono.zip(changedTasks, deletedTasks)
+                .flatMap(tuple -> taskService.isResyncRequired(syncedOn, seenUntil)
+                        .map(resyncRequired -> resyncRequired
+                                ? taskMapper.mapToResyncRequiredDelta()
+                                : taskMapper.mapToDelta(tuple.getT1(), tuple.getT2(), pageSize, after, until, syncedOn)));
     }
 
+    // Creator and updater are taken from the authenticated principal, without looking them up by username
     @MutationMapping
-    public Mono<TaskResponse> createTask(@Argument @Valid TaskDTO taskDTO, DataFetchingEnvironment env) {
-        String username = jwtUtil.extractUsername(env.getGraphQlContext().get(TOKEN_IN_CONTEXT));
-        Mono<UserEntity> createdBy = userService.findByUsername(username);
+    public Mono<TaskResponse> createTask(@Argument @Valid TaskDTO taskDTO, @AuthenticationPrincipal JWTClaims claims) {
         if (taskDTO.getAssignedTo() == null) {
-            return createdBy
-                    .flatMap(user -> Mono.just(taskMapper.mapToEntity(taskDTO, user.getUserId()))
-                            .flatMap(taskService::save)
-                            .map(task -> taskMapper.mapToResponse(task, user.getUsername())));
+            return taskService.save(taskMapper.mapToEntity(taskDTO, claims.userId()))
+                    .map(task -> taskMapper.mapToResponse(task, claims.username(), null, claims.username()));
         }
-        Mono<UserEntity> assignedTo = userService.findById(taskDTO.getAssignedTo());
-        return Mono.zip(createdBy, assignedTo)
-                .flatMap(tuple -> Mono.just(taskMapper.mapToEntity(taskDTO, tuple.getT1().getUserId(), tuple.getT2().getUserId()))
-                        .flatMap(taskService::save)
-                        .map(task -> taskMapper.mapToResponse(task, tuple.getT1().getUsername(), tuple.getT2().getUsername())));
+        return userService.findById(taskDTO.getAssignedTo())
+                .flatMap(assignedTo -> taskService.save(taskMapper.mapToEntity(taskDTO, claims.userId(), assignedTo.getUserId()))
+                        .map(task -> taskMapper.mapToResponse(task, claims.username(), null, assignedTo.getUsername())));
     }
 
+    // Updates are written with a single statement, the assignee is checked by the database and usernames not known
+    // from the principal are resolved only when selected. With an expected version the update is applied only to
+    // the version the client has seen, otherwise it fails with a conflict.
     @MutationMapping
-    public Mono<TaskResponse> updateTask(@Argument UUID taskId, @Argument @Valid TaskDTO taskDTO, DataFetchingEnvironment env) {
-        String username = jwtUtil.extractUsername(env.getGraphQlContext().get(TOKEN_IN_CONTEXT));
-        Mono<TaskEntity> taskById = taskService.findById(taskId);
-        Mono<UserEntity> createdBy = taskById.map(TaskEntity::getCreatedBy)
-                .flatMap(userService::findById);
-        Mono<UserEntity> updatedBy = userService.findByUsername(username);
-        if (taskDTO.getAssignedTo() == null) {
-            return Mono.zip(taskById, createdBy, updatedBy)
-                    .flatMap(tuple -> Mono.just(taskMapper.updateEntity(tuple.getT1(), taskDTO, tuple.getT3().getUserId()))
-                            .flatMap(taskService::update)
-                            .map(task -> taskMapper.mapToResponse(task, username, tuple.getT2().getUsername(), tuple.getT3().getUsername())));
-        }
-        Mono<UserEntity> assignedTo = userService.findById(taskDTO.getAssignedTo());
-        return Mono.zip(taskById, createdBy, updatedBy, assignedTo)
-                .flatMap(tuple -> Mono.just(taskMapper.updateEntity(tuple.getT1(), taskDTO, tuple.getT3().getUserId(), tuple.getT4().getUserId()))
-                        .flatMap(taskService::update)
-                        .map(task -> taskMapper.mapToResponse(task, tuple.getT2().getUsername(), tuple.getT3().getUsername(), tuple.getT4().getUsername())));
+    public Mono<TaskResponse> updateTask(@Argument UUID taskId, @Argument @Valid TaskDTO taskDTO, @Argument Long expectedVersion,
+                                         @AuthenticationPrincipal JWTClaims claims) {
+        UUID assignedTo = getAssignedTo(taskDTO, claims);
+        return taskService.update(taskId, taskMapper.mapToUpdate(taskDTO, claims.userId(), assignedTo), expectedVersion)
+                .map(task -> mapToUpdatedTaskResponse(task, claims));
     }
 
     @MutationMapping
-    public Mono<TaskResponse> updateUserAssignedToTask(@Argument UUID taskId, @Argument UUID assignedToId, DataFetchingEnvironment env) {
-        String username = jwtUtil.extractUsername(env.getGraphQlContext().get(TOKEN_IN_CONTEXT));
-        Mono<TaskEntity> taskById = taskService.findById(taskId);
-        Mono<UserEntity> createdBy = taskById.map(TaskEntity::getCreatedBy)
-                .flatMap(userService::findById);
-        Mono<UserEntity> updatedBy = userService.findByUsername(username);
-        Mono<UserEntity> assignedTo = userService.findById(assignedToId);
-        return Mono.zip(taskById, createdBy, updatedBy, assignedTo)
-                .flatMap(tuple -> Mono.just(taskMapper.updateUserAssignedToEntity(tuple.getT1(), tuple.getT3().getUserId(), tuple.getT4().getUserId()))
-                        .flatMap(taskService::updateAssignedTo)
-                        .map(task -> taskMapper.mapToResponse(task, tuple.getT2().getUsername(), tuple.getT3().getUsername(), tuple.getT4().getUsername())));
+    public Mono<TaskResponse> updateUserAssignedToTask(@Argument UUID taskId, @Argument UUID assignedToId, @Argument Long expectedVersion,
+                                                       @AuthenticationPrincipal JWTClaims claims) {
+        TaskPatch taskPatch = new TaskPatch(null, null, null, null, null, assignedToId);
+        return taskService.update(taskId, taskMapper.mapToUpdate(taskPatch, claims.userId()), expectedVersion)
+                .map(task -> mapToUpdatedTaskResponse(task, claims));
+    }
+
+    @MutationMapping
+    public Mono<TaskResponse> patchTask(@Argument UUID taskId, @Argument @Valid TaskPatch taskPatch, @Argument Long expectedVersion,
+                                        @AuthenticationPrincipal JWTClaims claims) {
+        return taskService.update(taskId, taskMapper.mapToUpdate(taskPatch, claims.userId()), expectedVersion)
+                .map(task -> mapToUpdatedTaskResponse(task, claims));
+    }
+
+    private TaskResponse mapToUpdatedTaskResponse(TaskEntity task, JWTClaims claims) {
+        String assignedTo = claims.userId().equals(task.getAssignedTo()) ? claims.username() : null;
+        return taskMapper.mapToResponse(task, null, claims.username(), assignedTo);
     }
 
     @MutationMapping
@@ -118,15 +156,149 @@ public class TaskController {
         return taskService.deleteById(taskId);
     }
 
+    // Assignees of all the tasks are looked up at once, tasks assigned to a missing user are reported and not created.
+    // Invalid tasks are rejected by the schema validation before any task is created, so they fail the whole batch.
+    @MutationMapping
+    public Mono<List<TaskResult>> createTasks(@Argument List<@Valid TaskDTO> taskDTOs, @AuthenticationPrincipal JWTClaims claims) {
+        if (taskDTOs.size() > taskBatchConfigurationProperties.getMaxSize()) {
+            return Mono.error(new BatchTooLargeException(taskDTOs.size(), taskBatchConfigurationProperties.getMaxSize()));
+        }
+        return findAssigneeUsernames(taskDTOs, claims)
+                .flatMap(usernamesByUserId -> {
+                    List<TaskEntity> tasks = taskDTOs.stream()
+                            .filter(taskDTO -> usernamesByUserId.containsKey(getAssignedTo(taskDTO, claims)))
+                            .map(taskDTO -> taskMapper.mapToEntity(taskDTO, claims.userId(), getAssignedTo(taskDTO, claims)))
+                            .toList();
+                    return taskService.saveAll(tasks)
+                            .collectList()
+                            .map(createdTasks -> {
+                                Iterator<TaskEntity> createdTasksIterator = createdTasks.iterator();
+                                List<TaskResult> results = new ArrayList<>(taskDTOs.size());
+                                for (TaskDTO taskDTO : taskDTOs) {
+                                    UUID assignedTo = getAssignedTo(taskDTO, claims);
+                                    if (!usernamesByUserId.containsKey(assignedTo)) {
+                                        results.add(new TaskResult(null, null, getUserNotFoundMessage(assignedTo)));
+                                        continue;
+                                    }
+                                    TaskEntity task = createdTasksIterator.next();
+                                    results.add(new TaskResult(task.getTaskId(),
+                                            taskMapper.mapToResponse(task, claims.username(), null, usernamesByUserId.get(assignedTo)), null));
+                                }
+                                return results;
+                            });
+                });
+    }
+
+    // Missing tasks, tasks assigned to a missing user and tasks modified since their expected version are reported
+    // and not updated, invalid tasks fail the whole batch
+    @MutationMapping
+    public Mono<List<TaskResult>> updateTasks(@Argument List<@Valid TaskUpdateDTO> taskUpdateDTOs, @AuthenticationPrincipal JWTClaims claims) {
+        if (taskUpdateDTOs.size() > taskBatchConfigurationProperties.getMaxSize()) {
+            return Mono.error(new BatchTooLargeException(taskUpdateDTOs.size(), taskBatchConfigurationProperties.getMaxSize()));
+        }
+        List<TaskDTO> taskDTOs = taskUpdateDTOs.stream().map(TaskUpdateDTO::getTaskDTO).toList();
+        return findAssigneeUsernames(taskDTOs, claims)
+                .flatMap(assigneeUsernamesByUserId -> {
+                    List<TaskEntity> tasks = taskUpdateDTOs.stream()
+                            .filter(taskUpdateDTO -> assigneeUsernamesByUserId.containsKey(getAssignedTo(taskUpdateDTO.getTaskDTO(), claims)))
+                            .map(taskUpdateDTO -> taskMapper.updateEntity(TaskEntity.builder()
+                                            .taskId(taskUpdateDTO.getTaskId())
+                                            .version(taskUpdateDTO.getExpectedVersion())
+                                            .build(),
+                                    taskUpdateDTO.getTaskDTO(), claims.userId(), getAssignedTo(taskUpdateDTO.getTaskDTO(), claims)))
+                            .toList();
+                    return taskService.updateAll(tasks)
+                            .map(updateResult -> {
+                                Map<UUID, TaskResponse> updatedTasksByTaskId = updateResult.updatedTasks().stream()
+                                        .map(taskMapper::mapToResponse)
+                                        .collect(Collectors.toMap(TaskResponse::taskId, Function.identity()));
+                                List<TaskResult> results = new ArrayList<>(taskUpdateDTOs.size());
+                                for (TaskUpdateDTO taskUpdateDTO : taskUpdateDTOs) {
+                                    UUID taskId = taskUpdateDTO.getTaskId();
+                                    UUID assignedTo = getAssignedTo(taskUpdateDTO.getTaskDTO(), claims);
+                                    if (!assigneeUsernamesByUserId.containsKey(assignedTo)) {
+                                        results.add(new TaskResult(taskId, null, getUserNotFoundMessage(assignedTo)));
+                                    } else if (updateResult.conflictingTaskIds().contains(taskId)) {
+                                        results.add(new TaskResult(taskId, null, getConflictMessage(taskId)));
+                                    } else if (!updatedTasksByTaskId.containsKey(taskId)) {
+                                        results.add(new TaskResult(taskId, null,
+                                                new ResourceNotFoundException("Task", "taskId", taskId.toString()).getMessage()));
+                                    } else {
+                                        results.add(new TaskResult(taskId, updatedTasksByTaskId.get(taskId), null));
+                                    }
+                                }
+                                return results;
+                            });
+                });
+    }
+
     @MutationMapping
+    public Mono<List<TaskDeletionResult>> deleteTasks(@Argument List<UUID> taskIds) {
+        if (taskIds.size() > taskBatchConfigurationProperties.getMaxSize()) {
+            return Mono.error(new BatchTooLargeException(taskIds.size(), taskBatchConfigurationProperties.getMaxSize()));
+        }
+        return taskService.deleteAllByIds(taskIds)
+                .map(deletedTaskIds -> taskIds.stream()
+                        .map(taskId -> new TaskDeletionResult(taskId, deletedTaskIds.contains(taskId)))
+                        .toList());
+    }
+
+    @MutationMapping
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public Mono<UUID> deleteAllTasks(@Argument TaskFilter filter) {
+        return taskService.deleteAll(filter)
+                .map(TaskDeletionJob::jobId);
+    }
+
+    @QueryMapping
     @PreAuthorize("hasAuthority('ADMIN')")
-    public Mono<Void> deleteAllTasks() {
-        return taskService.deleteAll();
+    public Mono<TaskDeletionJob> taskDeletionJob(@Argument UUID jobId) {
+        return taskService.findDeletionJob(jobId);
+    }
+
+    // Only the columns backing the selected fields are read, the task id is always read to identify a task
+    private List<String> getSelectedFields(DataFetchingFieldSelectionSet selectionSet) {
+        return Stream.concat(Stream.of(TASK_ID_FIELD), selectionSet.getImmediateFields().stream().map(SelectedField::getName))
+                .filter(TASK_FIELDS::contains)
+                .distinct()
+                .toList();
     }
 
-    private List<UUID> getUuidsFromTasksByProperty(List<TaskEntity> tasks, Function<TaskEntity, UUID> byProperty) {
-        return tasks.stream()
-                .map(byProperty)
+    // The authenticated user is always known, as tasks without an assignee are assigned to their creator
+    private Mono<Map<UUID, String>> findAssigneeUsernames(List<TaskDTO> taskDTOs, JWTClaims claims) {
+        List<UUID> assigneeIds = taskDTOs.stream()
+                .map(TaskDTO::getAssignedTo)
+                .filter(Objects::nonNull)
+                .distinct()
                 .toList();
+        Mono<Map<UUID, String>> usernamesByUserId = assigneeIds.isEmpty()
+                ? Mono.just(new HashMap<>())
+                : userService.findAllByIds(assigneeIds).collectMap(UserEntity::getUserId, UserEntity::getUsername, HashMap::new);
+        return usernamesByUserId.doOnNext(usernames -> usernames.put(claims.userId(), claims.username()));
+    }
+
+    private UUID getAssignedTo(TaskDTO taskDTO, JWTClaims claims) {
+        return taskDTO.getAssignedTo() != null ? taskDTO.getAssignedTo() : claims.userId();
+    }
+
+    private String getUserNotFoundMessage(UUID userId) {
+        return new ResourceNotFoundException("User", "userId", userId.toString()).getMessage();
+    }
+
+    private String getConflictMessage(UUID taskId) {
+        return "Task with taskId: '" + taskId + "' was modified concurrently.";
+    }
+
+    private int getPageSize(Integer first) {
+        return first != null ? first : DEFAULT_PAGE_SIZE;
+    }
+
+    // A sync from the beginning holds the tasks as of the settled point in time it reads up to, an incremental one
+    // holds them as of the point in time it was started from
+    private Instant getSyncedOn(TaskChangesCursor changesCursor, OffsetDateTime since, Instant until) {
+        if (changesCursor != null) {
+            return changesCursor.syncedOn();
+        }
+        return since != null ? since.toInstant() : until;
     }
 }
@@ -0,0 +1,61 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+// Opaque position of a task in a (timestamp, task_id) keyset ordering used for pagination,
+// the timestamp being the creation, the last change or the deletion of a task depending on the query
+record TaskCursor(Instant timestamp, UUID taskId) implements Comparable<TaskCursor> {
+
+    private static final String SEPARATOR = "|";
+
+    static TaskCursor of(TaskEntity taskEntity) {
+        return new TaskCursor(taskEntity.getCreatedOn(), taskEntity.getTaskId());
+    }
+
+    static TaskCursor ofChange(TaskEntity taskEntity) {
+        Instant changedOn = taskEntity.getUpdatedOn() != null ? taskEntity.getUpdatedOn() : taskEntity.getCreatedOn();
+        return new TaskCursor(changedOn, taskEntity.getTaskId());
+    }
+
+    static TaskCursor of(TaskTombstoneEntity taskTombstoneEntity) {
+        return new TaskCursor(taskTombstoneEntity.getDeletedOn(), taskTombstoneEntity.getTaskId());
+    }
+
+    static TaskCursor decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decodedCursor.indexOf(SEPARATOR);
+            return new TaskCursor(Instant.parse(decodedCursor.substring(0, separatorIndex)),
+                    UUID.fromString(decodedCursor.substring(separatorIndex + SEPARATOR.length())));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        String cursor = timestamp.toString() + SEPARATOR + taskId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Task ids are compared as unsigned bytes, the same way the database orders them
+    @Override
+    public int compareTo(TaskCursor other) {
+        int timestampComparison = timestamp.compareTo(other.timestamp);
+        if (timestampComparison != 0) {
+            return timestampComparison;
+        }
+        int mostSignificantBitsComparison = Long.compareUnsigned(taskId.getMostSignificantBits(), other.taskId.getMostSignificantBits());
+        if (mostSignificantBitsComparison != 0) {
+            return mostSignificantBitsComparison;
+        }
+        return Long.compareUnsigned(taskId.getLeastSignificantBits(), other.taskId.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,29 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// The heartbeat of a running job moves once per chunk, so its timeout has to exceed the longest chunk plus the pause,
+// jobs are checked for a timed out heartbeat at the same interval
+@ConfigurationProperties(prefix = "app.task-deletion")
+@Getter
+public final class TaskDeletionConfigurationProperties {
+
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration jobTimeToLive;
+    private final Duration jobHeartbeatTimeout;
+
+    @ConstructorBinding
+    public TaskDeletionConfigurationProperties(@DefaultValue("1000") int batchSize, @DefaultValue("100ms") Duration pause,
+                                               @DefaultValue("1h") Duration jobTimeToLive, @DefaultValue("5m") Duration jobHeartbeatTimeout) {
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.jobTimeToLive = jobTimeToLive;
+        this.jobHeartbeatTimeout = jobHeartbeatTimeout;
+    }
+}
@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record TaskDeletionJob(UUID jobId, TaskDeletionJobStatus status, long deletedTasks,
+                              OffsetDateTime startedOn, OffsetDateTime finishedOn, String error) {
+}
@@ -0,0 +1,57 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// A running job has its heartbeat moved with every deleted chunk, a job whose heartbeat stops is failed as interrupted
+@Entity
+@Table(name = "task_deletion_jobs", schema = "personal_kanban_board")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeletionJobEntity {
+
+    @Id
+    @Column(name = "job_id", updatable = false)
+    private UUID jobId;
+    @Column(name = "status", nullable = false)
+    private TaskDeletionJobStatus status;
+    @Column(name = "deleted_tasks", nullable = false)
+    private long deletedTasks;
+    @Column(name = "started_on", nullable = false, updatable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Instant startedOn;
+    @Column(name = "heartbeat_on", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Instant heartbeatOn;
+    @Column(name = "finished_on")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Instant finishedOn;
+    @Column(name = "error")
+    private String error;
+
+    @Override
+    public String toString() {
+        return "TaskDeletionJobEntity{" +
+                "jobId=" + jobId +
+                ", status=" + status +
+                ", deletedTasks=" + deletedTasks +
+                ", startedOn=" + startedOn +
+                ", heartbeatOn=" + heartbeatOn +
+                ", finishedOn=" + finishedOn +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Only running jobs are updated, so a job already failed as interrupted is not revived by the instance still running it
+@Repository
+public interface TaskDeletionJobRepository extends R2dbcRepository<TaskDeletionJobEntity, UUID> {
+
+    @Modifying
+    @Query("""
+            UPDATE personal_kanban_board.task_deletion_jobs
+            SET deleted_tasks = deleted_tasks + :deletedTasks, heartbeat_on = :heartbeatOn
+            WHERE job_id = :jobId AND status = 'RUNNING'
+            """)
+    Mono<Long> addDeletedTasks(UUID jobId, long deletedTasks, Instant heartbeatOn);
+
+    @Modifying
+    @Query("""
+            UPDATE personal_kanban_board.task_deletion_jobs
+            SET status = 'COMPLETED', finished_on = :finishedOn
+            WHERE job_id = :jobId AND status = 'RUNNING'
+            """)
+    Mono<Long> complete(UUID jobId, Instant finishedOn);
+
+    @Modifying
+    @Query("""
+            UPDATE personal_kanban_board.task_deletion_jobs
+            SET status = 'FAILED', finished_on = :finishedOn, error = :error
+            WHERE job_id = :jobId AND status = 'RUNNING'
+            """)
+    Mono<Long> fail(UUID jobId, String error, Instant finishedOn);
+
+    @Modifying
+    @Query("""
+            UPDATE personal_kanban_board.task_deletion_jobs
+            SET status = 'FAILED', finished_on = :finishedOn, error = :error
+            WHERE status = 'RUNNING' AND heartbeat_on < :heartbeatBefore
+            """)
+    Mono<Long> failAllWithHeartbeatBefore(Instant heartbeatBefore, String error, Instant finishedOn);
+
+    @Modifying
+    @Query("""
+            DELETE FROM personal_kanban_board.task_deletion_jobs
+            WHERE status <> 'RUNNING' AND finished_on < :finishedBefore
+            """)
+    Mono<Long> deleteAllFinishedBefore(Instant finishedBefore);
+}
@@ -0,0 +1,5 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+public enum TaskDeletionJobStatus {
+    RUNNING, COMPLETED, FAILED
+}
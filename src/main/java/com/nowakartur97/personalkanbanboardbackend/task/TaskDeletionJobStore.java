@@ -0,0 +1,150 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Jobs are persisted, so any instance can report a job started by another one. A job interrupted by shutdown is failed
+// by its own instance, one whose instance crashed is failed by every instance once its heartbeat times out,
+// failing the same job twice is harmless as only running jobs are updated.
+// Finished jobs are kept until their time to live passes.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class TaskDeletionJobStore {
+
+    private final static int MAX_ERROR_LENGTH = 1000;
+    private final static Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final TaskDeletionJobRepository taskDeletionJobRepository;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final TaskDeletionConfigurationProperties taskDeletionConfigurationProperties;
+    private final Map<UUID, Disposable> runningJobs = new ConcurrentHashMap<>();
+
+    private Disposable monitor;
+
+    Mono<TaskDeletionJob> create() {
+        Instant startedOn = Instant.now();
+        TaskDeletionJobEntity job = new TaskDeletionJobEntity(UUIDv7Generator.generate(), TaskDeletionJobStatus.RUNNING, 0,
+                startedOn, startedOn, null, null);
+        return r2dbcEntityTemplate.insert(job)
+                .map(this::mapToJob);
+    }
+
+    // The job is registered before it is subscribed, so that it is disposed on close even if it has just started
+    void run(UUID jobId, Mono<Void> job) {
+        Disposable.Swap runningJob = Disposables.swap();
+        runningJobs.put(jobId, runningJob);
+        runningJob.update(job.doFinally(signal -> runningJobs.remove(jobId)).subscribe());
+    }
+
+    // Fails for a job that is no longer running, so that the chunk deleted in the same transaction is rolled back
+    Mono<Void> addDeletedTasks(UUID jobId, long deletedTasks) {
+        return taskDeletionJobRepository.addDeletedTasks(jobId, deletedTasks, Instant.now())
+                .flatMap(updatedJobs -> updatedJobs == 0
+                        ? Mono.error(new IllegalStateException("Task deletion job: '" + jobId + "' is no longer running"))
+                        : Mono.empty());
+    }
+
+    Mono<Void> complete(UUID jobId) {
+        return taskDeletionJobRepository.complete(jobId, Instant.now())
+                .then();
+    }
+
+    // A job whose failure is not recorded stays running until its heartbeat times out
+    Mono<Void> fail(UUID jobId, Throwable throwable) {
+        String error = Objects.toString(throwable.getMessage(), throwable.getClass().getName());
+        return taskDeletionJobRepository.fail(jobId, error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)), Instant.now())
+                .then()
+                .onErrorResume(ex -> {
+                    log.error("Recording failure of task deletion job: '{}' failed", jobId, ex);
+                    return Mono.empty();
+                });
+    }
+
+    Mono<TaskDeletionJob> find(UUID jobId) {
+        return taskDeletionJobRepository.findById(jobId)
+                .map(this::mapToJob);
+    }
+
+    Mono<Long> failTimedOutJobs() {
+        Instant now = Instant.now();
+        return taskDeletionJobRepository.failAllWithHeartbeatBefore(now.minus(taskDeletionConfigurationProperties.getJobHeartbeatTimeout()),
+                "Interrupted, the instance running the job stopped", now);
+    }
+
+    Mono<Long> deleteExpiredJobs() {
+        return taskDeletionJobRepository.deleteAllFinishedBefore(Instant.now().minus(taskDeletionConfigurationProperties.getJobTimeToLive()));
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void startMonitor() {
+        if (monitor != null) {
+            return;
+        }
+        monitor = Flux.interval(taskDeletionConfigurationProperties.getJobHeartbeatTimeout())
+                .onBackpressureDrop()
+                .concatMap(tick -> failTimedOutJobs()
+                        .doOnNext(failedJobs -> {
+                            if (failedJobs > 0) {
+                                log.warn("Failed {} task deletion jobs with a timed out heartbeat", failedJobs);
+                            }
+                        })
+                        .then(deleteExpiredJobs())
+                        .doOnNext(deletedJobs -> log.info("Deleted {} expired task deletion jobs", deletedJobs))
+                        .onErrorResume(ex -> {
+                            log.error("Checking task deletion jobs failed", ex);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    // Chunks already deleted stay deleted, the rest of the tasks matching the filter of the job are kept
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (monitor != null) {
+            monitor.dispose();
+            monitor = null;
+        }
+        List<UUID> interruptedJobIds = List.copyOf(runningJobs.keySet());
+        runningJobs.forEach((jobId, runningJob) -> {
+            log.warn("Task deletion job: '{}' is interrupted by shutdown", jobId);
+            runningJob.dispose();
+        });
+        runningJobs.clear();
+        Flux.fromIterable(interruptedJobIds)
+                .concatMap(jobId -> fail(jobId, new IllegalStateException("Interrupted by shutdown")))
+                .then()
+                .timeout(SHUTDOWN_TIMEOUT)
+                .onErrorResume(ex -> {
+                    log.error("Failing task deletion jobs interrupted by shutdown timed out", ex);
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    private TaskDeletionJob mapToJob(TaskDeletionJobEntity job) {
+        return new TaskDeletionJob(job.getJobId(), job.getStatus(), job.getDeletedTasks(),
+                job.getStartedOn().atOffset(ZoneOffset.UTC),
+                job.getFinishedOn() == null ? null : job.getFinishedOn().atOffset(ZoneOffset.UTC),
+                job.getError());
+    }
+}
@@ -0,0 +1,6 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.util.UUID;
+
+public record TaskDeletionResult(UUID taskId, boolean deleted) {
+}
@@ -0,0 +1,4 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+public record TaskEdge(String cursor, TaskResponse node) {
+}
@@ -1,10 +1,9 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
 import com.nowakartur97.personalkanbanboardbackend.common.Auditable;
+import com.nowakartur97.personalkanbanboardbackend.common.RelationalColumn;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Temporal;
@@ -14,6 +13,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 import java.time.LocalDate;
@@ -35,17 +35,21 @@ public class TaskEntity extends Auditable<UUID> {
     private String title;
     @Column(length = 100)
     private String description;
-    @Column(nullable = false, length = 50)
-    @Enumerated(EnumType.STRING)
+    // Codes are kept in their own columns, the enum names they replace were dropped after switching to them
+    @Column(name = "status_code", nullable = false, columnDefinition = "SMALLINT")
+    @RelationalColumn("status_code")
     private TaskStatus status;
-    @Column(nullable = false, length = 20)
-    @Enumerated(EnumType.STRING)
+    @Column(name = "priority_code", nullable = false, columnDefinition = "SMALLINT")
+    @RelationalColumn("priority_code")
     private TaskPriority priority;
     @Column(name = "target_end_date", nullable = false)
     @Temporal(TemporalType.DATE)
     private LocalDate targetEndDate;
     @Column(name = "assigned_to", nullable = false)
     private UUID assignedTo;
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     @Override
     public String toString() {
@@ -57,6 +61,7 @@ public class TaskEntity extends Auditable<UUID> {
                 ", priority=" + priority +
                 ", targetEndDate=" + targetEndDate +
                 ", assignedTo=" + assignedTo +
+                ", version=" + version +
                 '}';
     }
 }
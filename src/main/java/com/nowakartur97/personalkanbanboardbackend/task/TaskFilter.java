@@ -0,0 +1,23 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+@ToString
+public class TaskFilter {
+
+    private List<TaskStatus> statuses;
+    private List<TaskPriority> priorities;
+    private LocalDate targetEndDateFrom;
+    private LocalDate targetEndDateTo;
+    private UUID assignedToId;
+    private UUID createdById;
+    private String title;
+}
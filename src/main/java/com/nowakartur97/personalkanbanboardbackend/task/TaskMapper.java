@@ -1,11 +1,15 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
+import com.nowakartur97.personalkanbanboardbackend.common.PageInfo;
+import com.nowakartur97.personalkanbanboardbackend.common.UUIDv7Generator;
 import com.nowakartur97.personalkanbanboardbackend.exception.ResourceNotFoundException;
-import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -17,6 +21,7 @@ public class TaskMapper {
 
     public TaskEntity mapToEntity(TaskDTO taskDTO, UUID createdBy, UUID assignedTo) {
         return TaskEntity.builder()
+                .taskId(UUIDv7Generator.generate())
                 .title(taskDTO.getTitle())
                 .description(taskDTO.getDescription())
                 .status(taskDTO.getStatus() != null ? taskDTO.getStatus() : TaskStatus.READY_TO_START)
@@ -52,19 +57,37 @@ public class TaskMapper {
         return taskEntity;
     }
 
-    public TaskResponse mapToResponse(TaskEntity taskEntity, String createdBy) {
-        return mapToResponse(taskEntity, createdBy, createdBy);
+    // All fields are replaced, with the same defaults as for a new task
+    public TaskUpdate mapToUpdate(TaskDTO taskDTO, UUID updatedBy, UUID assignedTo) {
+        return new TaskUpdate(
+                taskDTO.getTitle(),
+                taskDTO.getDescription(),
+                taskDTO.getStatus() != null ? taskDTO.getStatus() : TaskStatus.READY_TO_START,
+                taskDTO.getPriority() != null ? taskDTO.getPriority() : TaskPriority.LOW,
+                taskDTO.getTargetEndDate(),
+                assignedTo,
+                updatedBy,
+                Instant.now(),
+                true);
     }
 
-    public TaskResponse mapToResponse(TaskEntity taskEntity, String createdBy, String assignedTo) {
-        return mapToResponse(taskEntity, createdBy, null, assignedTo);
+    // Only the fields set in the patch are changed
+    public TaskUpdate mapToUpdate(TaskPatch taskPatch, UUID updatedBy) {
+        return new TaskUpdate(
+                taskPatch.getTitle(),
+                taskPatch.getDescription(),
+                taskPatch.getStatus(),
+                taskPatch.getPriority(),
+                taskPatch.getTargetEndDate(),
+                taskPatch.getAssignedTo(),
+                updatedBy,
+                Instant.now(),
+                false);
     }
 
-    public TaskResponse mapToResponse(TaskEntity taskEntity, List<UserEntity> users) {
-        String createdBy = getUsernameByUserId(taskEntity.getCreatedBy(), users);
-        String updatedBy = getUsernameByUserId(taskEntity.getUpdatedBy(), users);
-        String assignedTo = getUsernameByUserId(taskEntity.getAssignedTo(), users);
-        return mapToResponse(taskEntity, createdBy, updatedBy, assignedTo);
+    // Usernames are left empty and resolved per request through the user DataLoader
+    public TaskResponse mapToResponse(TaskEntity taskEntity) {
+        return mapToResponse(taskEntity, null, null, null);
     }
 
     public TaskResponse mapToResponse(TaskEntity taskEntity, String createdBy, String updatedBy, String assignedTo) {
@@ -76,20 +99,83 @@ public class TaskMapper {
                 taskEntity.getPriority(),
                 taskEntity.getTargetEndDate(),
                 createdBy,
-                taskEntity.getCreatedOn().toString(),
+                taskEntity.getCreatedOn() != null ? taskEntity.getCreatedOn().toString() : null,
                 updatedBy,
                 taskEntity.getUpdatedOn() != null ? taskEntity.getUpdatedOn().toString() : null,
-                assignedTo
+                assignedTo,
+                taskEntity.getVersion(),
+                taskEntity.getCreatedBy(),
+                taskEntity.getUpdatedBy(),
+                taskEntity.getAssignedTo()
         );
     }
 
-    private String getUsernameByUserId(UUID userId, List<UserEntity> users) {
+    public List<TaskResponse> mapToResponse(List<TaskEntity> tasks, Map<UUID, String> usernamesByUserId) {
+        List<TaskResponse> taskResponses = new ArrayList<>(tasks.size());
+        for (TaskEntity task : tasks) {
+            taskResponses.add(mapToResponse(task,
+                    getUsernameByUserId(task.getCreatedBy(), usernamesByUserId),
+                    getUsernameByUserId(task.getUpdatedBy(), usernamesByUserId),
+                    getUsernameByUserId(task.getAssignedTo(), usernamesByUserId)));
+        }
+        return taskResponses;
+    }
+
+    public TaskConnection mapToConnection(List<TaskEntity> tasks, boolean hasNextPage) {
+        List<TaskEdge> edges = new ArrayList<>(tasks.size());
+        for (TaskEntity task : tasks) {
+            edges.add(new TaskEdge(TaskCursor.of(task).encode(), mapToResponse(task)));
+        }
+        String endCursor = edges.isEmpty() ? null : edges.getLast().cursor();
+        return new TaskConnection(edges, new PageInfo(hasNextPage, endCursor));
+    }
+
+    // Changed and deleted tasks are merged in the order of their changes, the cursor of the last one taken ends the page
+    // Without a next page the cursor moves past every change until the given point in time, so the next sync
+    // continues from there. It never moves back, even when nothing has changed since the given cursor.
+    public TasksDelta mapToDelta(List<TaskEntity> changedTasks, List<TaskTombstoneEntity> deletedTasks, int pageSize,
+                                 TaskCursor after, Instant until, Instant syncedOn) {
+        List<TaskEntity> pageChangedTasks = new ArrayList<>();
+        List<TaskTombstone> pageDeletedTasks = new ArrayList<>();
+        TaskCursor endCursor = null;
+        int changedIndex = 0;
+        int deletedIndex = 0;
+        while (changedIndex + deletedIndex < pageSize
+                && (changedIndex < changedTasks.size() || deletedIndex < deletedTasks.size())) {
+            TaskCursor changedCursor = changedIndex < changedTasks.size() ? TaskCursor.ofChange(changedTasks.get(changedIndex)) : null;
+            TaskCursor deletedCursor = deletedIndex < deletedTasks.size() ? TaskCursor.of(deletedTasks.get(deletedIndex)) : null;
+            if (deletedCursor == null || (changedCursor != null && changedCursor.compareTo(deletedCursor) <= 0)) {
+                pageChangedTasks.add(changedTasks.get(changedIndex++));
+                endCursor = changedCursor;
+            } else {
+                TaskTombstoneEntity deletedTask = deletedTasks.get(deletedIndex++);
+                pageDeletedTasks.add(new TaskTombstone(deletedTask.getTaskId(), deletedTask.getDeletedOn().atOffset(ZoneOffset.UTC)));
+                endCursor = deletedCursor;
+            }
+        }
+        boolean hasNextPage = changedIndex < changedTasks.size() || deletedIndex < deletedTasks.size();
+        TaskChangesCursor changesCursor = hasNextPage
+                ? new TaskChangesCursor(endCursor, syncedOn)
+                : TaskChangesCursor.endOf(until, syncedOn);
+        if (after != null && after.compareTo(changesCursor.position()) > 0) {
+            changesCursor = new TaskChangesCursor(after, syncedOn);
+        }
+        return new TasksDelta(pageChangedTasks.stream().map(this::mapToResponse).toList(), pageDeletedTasks, false,
+                new PageInfo(hasNextPage, changesCursor.encode()));
+    }
+
+    public TasksDelta mapToResyncRequiredDelta() {
+        return new TasksDelta(List.of(), List.of(), true, new PageInfo(false, null));
+    }
+
+    private String getUsernameByUserId(UUID userId, Map<UUID, String> usernamesByUserId) {
         if (userId == null) {
             return null;
         }
-        return users.stream().filter(user -> user.getUserId().equals(userId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("User", "userId", userId.toString()))
-                .getUsername();
+        String username = usernamesByUserId.get(userId);
+        if (username == null) {
+            throw new ResourceNotFoundException("User", "userId", userId.toString());
+        }
+        return username;
     }
 }
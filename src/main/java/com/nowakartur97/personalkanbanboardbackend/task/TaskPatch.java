@@ -0,0 +1,24 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Fields left empty are not changed
+@AllArgsConstructor
+@Getter
+@ToString
+public class TaskPatch {
+
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private TaskPriority priority;
+    @FutureOrPresent(message = "{taskMutation.taskDTO.targetEndDate.futureOrPresent}")
+    private LocalDate targetEndDate;
+    private UUID assignedTo;
+}
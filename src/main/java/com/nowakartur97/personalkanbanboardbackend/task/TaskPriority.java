@@ -1,5 +1,24 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Stored by code, so the codes of existing priorities must not change
+@RequiredArgsConstructor
+@Getter
 public enum TaskPriority {
-    LOW, MEDIUM, HIGH
+    LOW((short) 1),
+    MEDIUM((short) 2),
+    HIGH((short) 3);
+
+    private final short code;
+
+    public static TaskPriority fromCode(short code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
 }
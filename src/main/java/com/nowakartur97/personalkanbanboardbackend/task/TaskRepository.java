@@ -1,13 +1,87 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface TaskRepository extends R2dbcRepository<TaskEntity, UUID> {
 
     Flux<TaskEntity> findAllByAssignedTo(UUID assignedToId);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.tasks
+            ORDER BY created_on, task_id
+            LIMIT :limit
+            """)
+    Flux<TaskEntity> findFirstPage(int limit);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.tasks
+            WHERE (created_on, task_id) > (:createdOn, :taskId)
+            ORDER BY created_on, task_id
+            LIMIT :limit
+            """)
+    Flux<TaskEntity> findPageAfter(Instant createdOn, UUID taskId, int limit);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.tasks
+            WHERE assigned_to = :assignedToId
+            ORDER BY created_on, task_id
+            LIMIT :limit
+            """)
+    Flux<TaskEntity> findFirstPageByAssignedTo(UUID assignedToId, int limit);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.tasks
+            WHERE assigned_to = :assignedToId AND (created_on, task_id) > (:createdOn, :taskId)
+            ORDER BY created_on, task_id
+            LIMIT :limit
+            """)
+    Flux<TaskEntity> findPageByAssignedToAfter(UUID assignedToId, Instant createdOn, UUID taskId, int limit);
+
+    // Ordered by the expression of the changes index, so a page is read from the index.
+    // Changes made after the until point in time may not be committed yet, they are left for the next sync.
+    @Query("""
+            SELECT * FROM personal_kanban_board.tasks
+            WHERE COALESCE(updated_on, created_on) >= :since AND COALESCE(updated_on, created_on) <= :until
+            ORDER BY COALESCE(updated_on, created_on), task_id
+            LIMIT :limit
+            """)
+    Flux<TaskEntity> findFirstPageChangedSince(Instant since, Instant until, int limit);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.tasks
+            WHERE (COALESCE(updated_on, created_on), task_id) > (:changedOn, :taskId) AND COALESCE(updated_on, created_on) <= :until
+            ORDER BY COALESCE(updated_on, created_on), task_id
+            LIMIT :limit
+            """)
+    Flux<TaskEntity> findPageChangedAfter(Instant changedOn, UUID taskId, Instant until, int limit);
+
+    @Query("""
+            SELECT task_id FROM personal_kanban_board.tasks
+            WHERE task_id IN (:taskIds)
+            """)
+    Flux<UUID> findExistingTaskIds(Collection<UUID> taskIds);
+
+    @Modifying
+    @Query("""
+            DELETE FROM personal_kanban_board.tasks
+            WHERE task_id IN (:taskIds)
+            """)
+    Mono<Long> deleteAllByTaskIds(Collection<UUID> taskIds);
+
+    // Does not scan the table and is not written row by row to the WAL, but locks the table exclusively until commit
+    @Modifying
+    @Query("""
+            TRUNCATE TABLE personal_kanban_board.tasks
+            """)
+    Mono<Void> truncate();
 }
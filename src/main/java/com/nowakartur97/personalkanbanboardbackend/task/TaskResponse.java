@@ -13,6 +13,10 @@ public record TaskResponse(UUID taskId,
                            String createdOn,
                            String updatedBy,
                            String updatedOn,
-                           String assignedTo
+                           String assignedTo,
+                           Long version,
+                           UUID createdById,
+                           UUID updatedById,
+                           UUID assignedToId
 ) {
 }
@@ -0,0 +1,10 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.util.UUID;
+
+// Result of a single task of a batch mutation, either the task or the reason it was not written
+public record TaskResult(UUID taskId,
+                         TaskResponse task,
+                         String error
+) {
+}
@@ -1,13 +1,27 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
+import com.nowakartur97.personalkanbanboardbackend.common.UUIDv7Generator;
 import com.nowakartur97.personalkanbanboardbackend.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -15,6 +29,16 @@ import java.util.UUID;
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final TaskChangePublisher taskChangePublisher;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskBatchRepository taskBatchRepository;
+    private final TaskUpdateRepository taskUpdateRepository;
+    private final TransactionalOperator transactionalOperator;
+    private final TaskDeletionJobStore taskDeletionJobStore;
+    private final TaskDeletionConfigurationProperties taskDeletionConfigurationProperties;
+    private final TaskChangeWatermarkRepository taskChangeWatermarkRepository;
+    private final TaskChangesConfigurationProperties taskChangesConfigurationProperties;
 
     public Mono<TaskEntity> findById(UUID taskId) {
 
@@ -31,6 +55,25 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    Flux<TaskEntity> findAll(TaskFilter filter, List<TaskSort> sort, Collection<String> fields) {
+
+        log.info("Looking up all tasks by filter: {} sorted by: {} with fields: {}", filter, sort, fields);
+
+        Query query = Query.query(getCriteria(filter))
+                .sort(getSort(sort))
+                .columns(fields);
+        return r2dbcEntityTemplate.select(query, TaskEntity.class);
+    }
+
+    Flux<TaskEntity> findAll(int limit, TaskCursor after) {
+
+        log.info("Looking up {} tasks after cursor: '{}'", limit, after);
+
+        if (after == null) {
+            return taskRepository.findFirstPage(limit);
+        }
+        return taskRepository.findPageAfter(after.timestamp(), after.taskId(), limit);
+    }
 
     public Flux<TaskEntity> findAllByAssignedTo(UUID assignedToId) {
 
@@ -39,38 +82,306 @@ public class TaskService {
         return taskRepository.findAllByAssignedTo(assignedToId);
     }
 
+    Flux<TaskEntity> findAllByAssignedTo(UUID assignedToId, Collection<String> fields) {
+
+        log.info("Looking up all tasks for assigned to user with id '{}' with fields: {}", assignedToId, fields);
+
+        Query query = Query.query(Criteria.where("assignedTo").is(assignedToId)).columns(fields);
+        return r2dbcEntityTemplate.select(query, TaskEntity.class);
+    }
+
+    Flux<TaskEntity> findAllByAssignedTo(UUID assignedToId, int limit, TaskCursor after) {
+
+        log.info("Looking up {} tasks for assigned to user with id '{}' after cursor: '{}'", limit, assignedToId, after);
+
+        if (after == null) {
+            return taskRepository.findFirstPageByAssignedTo(assignedToId, limit);
+        }
+        return taskRepository.findPageByAssignedToAfter(assignedToId, after.timestamp(), after.taskId(), limit);
+    }
+
+    // Changes made during the settle delay may still be committed with an earlier timestamp than those already visible,
+    // so they are read only once they have settled
+    Instant getChangesSettledUntil() {
+        return Instant.now().minus(taskChangesConfigurationProperties.getSettleDelay());
+    }
+
+    // A cursor continues from the last change already seen, the point in time is used only for the first page
+    Flux<TaskEntity> findAllChangedSince(Instant since, Instant until, int limit, TaskCursor after) {
+
+        log.info("Looking up {} tasks changed since: '{}' until: '{}' after cursor: '{}'", limit, since, until, after);
+
+        if (after == null) {
+            return taskRepository.findFirstPageChangedSince(since, until, limit);
+        }
+        return taskRepository.findPageChangedAfter(after.timestamp(), after.taskId(), until, limit);
+    }
+
+    Flux<TaskTombstoneEntity> findAllDeletedSince(Instant since, Instant until, int limit, TaskCursor after) {
+
+        log.info("Looking up {} tasks deleted since: '{}' until: '{}' after cursor: '{}'", limit, since, until, after);
+
+        if (after == null) {
+            return taskTombstoneRepository.findFirstPageDeletedSince(since, until, limit);
+        }
+        return taskTombstoneRepository.findPageDeletedAfter(after.timestamp(), after.taskId(), until, limit);
+    }
+
+    // Deletions before the pruned tombstones watermark can no longer be reported, a client that has seen changes
+    // only up to an earlier point in time has to sync all tasks again. So does a client holding tasks synced before
+    // the board was reset, as no tombstones are kept for them.
+    Mono<Boolean> isResyncRequired(Instant syncedOn, Instant seenUntil) {
+
+        log.info("Checking whether changes synced on: '{}' and seen until: '{}' require a resync", syncedOn, seenUntil);
+
+        return taskChangeWatermarkRepository.findAllById(List.of(TaskChangeWatermarkEntity.TOMBSTONES_PRUNED, TaskChangeWatermarkEntity.BOARD_RESET))
+                .collectMap(TaskChangeWatermarkEntity::getName, TaskChangeWatermarkEntity::getWatermark)
+                .map(watermarks -> isAfter(watermarks.get(TaskChangeWatermarkEntity.TOMBSTONES_PRUNED), seenUntil)
+                        || isAfter(watermarks.get(TaskChangeWatermarkEntity.BOARD_RESET), syncedOn));
+    }
+
+    private boolean isAfter(Instant watermark, Instant instant) {
+        return watermark != null && watermark.isAfter(instant);
+    }
+
+    // The watermark is advanced in the same transaction as the tombstones are deleted, so a sync that no longer
+    // finds a tombstone also finds the watermark past it
+    Mono<Long> pruneTombstones() {
+
+        Instant prunedUntil = Instant.now().minus(taskChangesConfigurationProperties.getTombstoneRetention());
+
+        log.info("Pruning task tombstones deleted before: '{}'", prunedUntil);
+
+        return taskChangeWatermarkRepository.advance(TaskChangeWatermarkEntity.TOMBSTONES_PRUNED, prunedUntil)
+                .then(taskTombstoneRepository.deleteAllDeletedBefore(prunedUntil))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Criteria getCriteria(TaskFilter filter) {
+        Criteria criteria = Criteria.empty();
+        if (filter == null) {
+            return criteria;
+        }
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            criteria = criteria.and("status").in(filter.getStatuses());
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            criteria = criteria.and("priority").in(filter.getPriorities());
+        }
+        if (filter.getTargetEndDateFrom() != null) {
+            criteria = criteria.and("targetEndDate").greaterThanOrEquals(filter.getTargetEndDateFrom());
+        }
+        if (filter.getTargetEndDateTo() != null) {
+            criteria = criteria.and("targetEndDate").lessThanOrEquals(filter.getTargetEndDateTo());
+        }
+        if (filter.getAssignedToId() != null) {
+            criteria = criteria.and("assignedTo").is(filter.getAssignedToId());
+        }
+        if (filter.getCreatedById() != null) {
+            criteria = criteria.and("createdBy").is(filter.getCreatedById());
+        }
+        if (filter.getTitle() != null && !filter.getTitle().isBlank()) {
+            criteria = criteria.and("title").like("%" + escapeLikePattern(filter.getTitle()) + "%").ignoreCase(true);
+        }
+        return criteria;
+    }
+
+    // Task id is always the last order to keep the order of tasks with equal sort values stable
+    private Sort getSort(List<TaskSort> sort) {
+        if (sort == null || sort.isEmpty()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>(sort.size() + 1);
+        for (TaskSort taskSort : sort) {
+            Sort.Direction direction = taskSort.getDirection() != null ? taskSort.getDirection() : Sort.Direction.ASC;
+            orders.add(new Sort.Order(direction, taskSort.getField().getProperty()));
+        }
+        orders.add(Sort.Order.asc("taskId"));
+        return Sort.by(orders);
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     public Mono<TaskEntity> save(TaskEntity task) {
 
         log.info("Creation of new task: {}", task);
 
-        return taskRepository.save(task);
+        return taskRepository.save(task)
+                .flatMap(savedTask -> taskChangePublisher.publish(TaskChangeType.CREATED, savedTask).thenReturn(savedTask));
+    }
+
+    // One statement updates the task and returns it. Only when nothing was updated the task is looked up
+    // to tell a missing task from a concurrent modification.
+    Mono<TaskEntity> update(UUID taskId, TaskUpdate taskUpdate, Long expectedVersion) {
+
+        log.info("Updating task: '{}' with: {} and expected version: {}", taskId, taskUpdate, expectedVersion);
+
+        return taskUpdateRepository.update(taskId, taskUpdate, expectedVersion)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> mapToUserNotFound(taskUpdate, ex))
+                .switchIfEmpty(Mono.defer(() -> taskRepository.existsById(taskId)
+                        .flatMap(exists -> Mono.error(exists
+                                ? new OptimisticLockingFailureException("Task with taskId: '" + taskId + "' was modified concurrently.")
+                                : new ResourceNotFoundException("Task", "taskId", taskId.toString())))))
+                .flatMap(task -> taskChangePublisher.publish(TaskChangeType.UPDATED, task).thenReturn(task));
+    }
+
+    // The only reference changed by an update is the assigned user
+    private Throwable mapToUserNotFound(TaskUpdate taskUpdate, DataIntegrityViolationException ex) {
+        if (taskUpdate.assignedTo() == null) {
+            return ex;
+        }
+        return new ResourceNotFoundException("User", "userId", taskUpdate.assignedTo().toString());
     }
 
-    public Mono<TaskEntity> update(TaskEntity task) {
+    // All tasks are inserted in one transaction, the returned tasks keep the given order
+    Flux<TaskEntity> saveAll(List<TaskEntity> tasks) {
 
-        log.info("Updating task: {}", task);
+        log.info("Creation of {} new tasks", tasks.size());
 
-        return taskRepository.save(task);
+        // Ids are generated by TaskMapper, only tasks built elsewhere without one get it here
+        tasks.forEach(task -> {
+            if (task.getTaskId() == null) {
+                task.setTaskId(UUIDv7Generator.generate());
+            }
+            task.setVersion(0L);
+        });
+        return taskBatchRepository.insertAll(tasks)
+                .as(transactionalOperator::transactional)
+                .then(Mono.defer(() -> taskChangePublisher.publish(TaskChangeType.CREATED, tasks)))
+                .thenMany(Flux.fromIterable(tasks));
     }
 
-    public Mono<TaskEntity> updateAssignedTo(TaskEntity task) {
+    // Tasks that do not exist or no longer have the expected version are skipped, the updated tasks are read back
+    // and the skipped ones told apart in the same transaction
+    Mono<TaskBatchUpdateResult> updateAll(List<TaskEntity> tasks) {
 
-        log.info("Updating user assigned to task: {}", task);
+        log.info("Updating {} tasks", tasks.size());
 
-        return taskRepository.save(task);
+        if (tasks.isEmpty()) {
+            return Mono.just(new TaskBatchUpdateResult(List.of(), Set.of()));
+        }
+        return taskBatchRepository.updateAll(tasks)
+                .flatMap(updatedTaskIds -> {
+                    List<UUID> notUpdatedTaskIds = tasks.stream()
+                            .map(TaskEntity::getTaskId)
+                            .filter(taskId -> !updatedTaskIds.contains(taskId))
+                            .toList();
+                    return Mono.zip(taskRepository.findAllById(updatedTaskIds).collectList(),
+                            notUpdatedTaskIds.isEmpty()
+                                    ? Mono.just(Set.<UUID>of())
+                                    : taskRepository.findExistingTaskIds(notUpdatedTaskIds).collect(Collectors.toSet()));
+                })
+                .map(tuple -> new TaskBatchUpdateResult(tuple.getT1(), tuple.getT2()))
+                .as(transactionalOperator::transactional)
+                .flatMap(result -> taskChangePublisher.publish(TaskChangeType.UPDATED, result.updatedTasks()).thenReturn(result));
+    }
+
+    Mono<Set<UUID>> deleteAllByIds(Collection<UUID> taskIds) {
+
+        log.info("Deleting tasks by ids: '{}'", taskIds);
+
+        if (taskIds.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+        Instant deletedOn = Instant.now();
+        return taskRepository.findExistingTaskIds(taskIds)
+                .collect(Collectors.toSet())
+                .flatMap(existingTaskIds -> existingTaskIds.isEmpty()
+                        ? Mono.just(existingTaskIds)
+                        : taskTombstoneRepository.saveForTasks(existingTaskIds, deletedOn)
+                        .then(taskRepository.deleteAllByTaskIds(existingTaskIds))
+                        .thenReturn(existingTaskIds))
+                .as(transactionalOperator::transactional)
+                .doOnNext(taskChangePublisher::publishDeleted);
     }
 
     public Mono<Void> deleteById(UUID taskId) {
 
         log.info("Deleting task: by id: '{}'", taskId);
 
-        return taskRepository.deleteById(taskId);
+        return taskTombstoneRepository.saveForTask(taskId, Instant.now())
+                .then(taskRepository.deleteById(taskId))
+                .as(transactionalOperator::transactional)
+                .then(Mono.fromRunnable(() -> taskChangePublisher.publishDeleted(taskId)));
+    }
+
+    Mono<TaskDeletionJob> findDeletionJob(UUID jobId) {
+
+        log.info("Looking up task deletion job by id: '{}'", jobId);
+
+        return taskDeletionJobStore.find(jobId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Task deletion job", "jobId", jobId.toString())));
     }
 
-    public Mono<Void> deleteAll() {
+    // Without a filter the table is truncated before returning, otherwise the matching tasks are deleted
+    // in the background in chunks, each in its own short transaction, and the job is returned right away.
+    // A truncate leaves no tombstone per task, the board reset watermark tells syncing clients to start over instead,
+    // which makes the tombstones of earlier deletions useless as well.
+    Mono<TaskDeletionJob> deleteAll(TaskFilter filter) {
 
-        log.info("Deleting all tasks");
+        log.info("Deleting all tasks by filter: {}", filter);
+
+        Criteria criteria = getCriteria(filter);
+        return taskDeletionJobStore.create()
+                .flatMap(job -> criteria.isEmpty() ? truncate(job.jobId()) : startDeletionInChunks(job, criteria));
+    }
+
+    private Mono<TaskDeletionJob> truncate(UUID jobId) {
+        Instant resetOn = Instant.now();
+        return taskRepository.count()
+                .flatMap(deletedTasks -> taskChangeWatermarkRepository.advance(TaskChangeWatermarkEntity.BOARD_RESET, resetOn)
+                        .then(taskRepository.truncate())
+                        .then(taskTombstoneRepository.deleteAllDeletedBefore(resetOn))
+                        .then(taskDeletionJobStore.addDeletedTasks(jobId, deletedTasks)))
+                .then(taskDeletionJobStore.complete(jobId))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(unused -> taskChangePublisher.publishReset())
+                .onErrorResume(ex -> taskDeletionJobStore.fail(jobId, ex).then(Mono.error(ex)))
+                .then(taskDeletionJobStore.find(jobId));
+    }
+
+    private Mono<TaskDeletionJob> startDeletionInChunks(TaskDeletionJob job, Criteria criteria) {
+        taskDeletionJobStore.run(job.jobId(), deleteInChunks(job.jobId(), criteria)
+                .then(taskDeletionJobStore.complete(job.jobId()))
+                .doOnSuccess(unused -> log.info("Task deletion job: '{}' completed", job.jobId()))
+                .onErrorResume(ex -> {
+                    log.error("Task deletion job: '{}' failed", job.jobId(), ex);
+                    return taskDeletionJobStore.fail(job.jobId(), ex);
+                }));
+        return Mono.just(job);
+    }
+
+    // Chunks follow the primary key, so every chunk continues with an index range scan after the last deleted task.
+    // The progress of the job is recorded in the transaction of its chunk, so it counts only the deleted tasks.
+    private Flux<List<UUID>> deleteInChunks(UUID jobId, Criteria criteria) {
+        int batchSize = taskDeletionConfigurationProperties.getBatchSize();
+        return deleteChunk(jobId, criteria, null)
+                .expand(deletedTaskIds -> deletedTaskIds.size() < batchSize
+                        ? Mono.empty()
+                        : deleteChunk(jobId, criteria, deletedTaskIds.getLast())
+                        .delaySubscription(taskDeletionConfigurationProperties.getPause()));
+    }
 
-        return taskRepository.deleteAll();
+    private Mono<List<UUID>> deleteChunk(UUID jobId, Criteria criteria, UUID afterTaskId) {
+        Criteria chunkCriteria = afterTaskId == null ? criteria : criteria.and("taskId").greaterThan(afterTaskId);
+        Query query = Query.query(chunkCriteria)
+                .sort(Sort.by("taskId"))
+                .limit(taskDeletionConfigurationProperties.getBatchSize())
+                .columns("taskId");
+        return r2dbcEntityTemplate.select(query, TaskEntity.class)
+                .map(TaskEntity::getTaskId)
+                .collectList()
+                .flatMap(taskIds -> taskIds.isEmpty()
+                        ? Mono.just(taskIds)
+                        : taskTombstoneRepository.saveForTasks(taskIds, Instant.now())
+                        .then(taskRepository.deleteAllByTaskIds(taskIds))
+                        .then(taskDeletionJobStore.addDeletedTasks(jobId, taskIds.size()))
+                        .thenReturn(taskIds))
+                .as(transactionalOperator::transactional)
+                .doOnNext(taskChangePublisher::publishDeleted);
     }
 }
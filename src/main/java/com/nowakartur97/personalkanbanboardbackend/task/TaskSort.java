@@ -0,0 +1,15 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+
+@AllArgsConstructor
+@Getter
+@ToString
+public class TaskSort {
+
+    private TaskSortField field;
+    private Sort.Direction direction;
+}
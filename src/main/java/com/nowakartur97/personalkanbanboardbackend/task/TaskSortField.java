@@ -0,0 +1,17 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum TaskSortField {
+    TITLE("title"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    TARGET_END_DATE("targetEndDate"),
+    CREATED_ON("createdOn"),
+    UPDATED_ON("updatedOn");
+
+    private final String property;
+}
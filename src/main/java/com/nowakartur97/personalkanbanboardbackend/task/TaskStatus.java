@@ -1,6 +1,24 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
+// Stored by code, so the codes of existing statuses must not change
+@RequiredArgsConstructor
+@Getter
 public enum TaskStatus {
-    READY_TO_START, IN_PROGRESS, DONE
+    READY_TO_START((short) 1),
+    IN_PROGRESS((short) 2),
+    DONE((short) 3);
+
+    private final short code;
+
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
 }
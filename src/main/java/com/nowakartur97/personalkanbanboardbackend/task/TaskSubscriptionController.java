@@ -0,0 +1,32 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@Controller
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('USER')")
+public class TaskSubscriptionController {
+
+    private final TaskChangePublisher taskChangePublisher;
+
+    // Deletions and resets carry no task, so they are sent to every subscriber regardless of the assigned user
+    @SubscriptionMapping
+    public Flux<TaskChange> taskChanged(@Argument UUID assignedTo) {
+        return taskChangePublisher.subscribe()
+                .filter(taskChange -> assignedTo == null
+                        || taskChange.task() == null
+                        || assignedTo.equals(taskChange.task().assignedToId()));
+    }
+
+    @SubscriptionMapping
+    public Flux<TaskChange> boardChanged() {
+        return taskChangePublisher.subscribe();
+    }
+}
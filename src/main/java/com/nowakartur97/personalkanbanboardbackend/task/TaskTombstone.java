@@ -0,0 +1,7 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record TaskTombstone(UUID taskId, OffsetDateTime deletedOn) {
+}
@@ -0,0 +1,40 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Marks a deleted task, so clients syncing changes since a point in time also learn about deletions
+@Entity
+@Table(name = "task_tombstones", schema = "personal_kanban_board")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstoneEntity {
+
+    @Id
+    @Column(name = "task_id", updatable = false)
+    private UUID taskId;
+    @Column(name = "deleted_on", nullable = false)
+    @Temporal(TemporalType.TIMESTAMP)
+    private Instant deletedOn;
+
+    @Override
+    public String toString() {
+        return "TaskTombstoneEntity{" +
+                "taskId=" + taskId +
+                ", deletedOn=" + deletedOn +
+                '}';
+    }
+}
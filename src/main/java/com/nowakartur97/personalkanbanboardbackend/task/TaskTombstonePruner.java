@@ -0,0 +1,48 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Every instance prunes the tombstones older than the retention, pruning the same tombstones twice is harmless
+// as the watermark only moves forward
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskTombstonePruner {
+
+    private final TaskService taskService;
+    private final TaskChangesConfigurationProperties taskChangesConfigurationProperties;
+
+    private Disposable pruner;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void start() {
+        if (pruner != null) {
+            return;
+        }
+        pruner = Flux.interval(taskChangesConfigurationProperties.getTombstonePruneInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> taskService.pruneTombstones()
+                        .doOnNext(prunedTombstones -> log.info("Pruned {} task tombstones", prunedTombstones))
+                        .onErrorResume(ex -> {
+                            log.error("Pruning task tombstones failed", ex);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void stop() {
+        if (pruner != null) {
+            pruner.dispose();
+            pruner = null;
+        }
+    }
+}
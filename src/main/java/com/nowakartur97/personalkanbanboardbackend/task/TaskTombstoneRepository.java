@@ -0,0 +1,55 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends R2dbcRepository<TaskTombstoneEntity, UUID> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO personal_kanban_board.task_tombstones (task_id, deleted_on)
+            SELECT task_id, :deletedOn FROM personal_kanban_board.tasks
+            WHERE task_id = :taskId
+            """)
+    Mono<Long> saveForTask(UUID taskId, Instant deletedOn);
+
+    @Modifying
+    @Query("""
+            INSERT INTO personal_kanban_board.task_tombstones (task_id, deleted_on)
+            SELECT task_id, :deletedOn FROM personal_kanban_board.tasks
+            WHERE task_id IN (:taskIds)
+            """)
+    Mono<Long> saveForTasks(Collection<UUID> taskIds, Instant deletedOn);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.task_tombstones
+            WHERE deleted_on >= :since AND deleted_on <= :until
+            ORDER BY deleted_on, task_id
+            LIMIT :limit
+            """)
+    Flux<TaskTombstoneEntity> findFirstPageDeletedSince(Instant since, Instant until, int limit);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.task_tombstones
+            WHERE (deleted_on, task_id) > (:deletedOn, :taskId) AND deleted_on <= :until
+            ORDER BY deleted_on, task_id
+            LIMIT :limit
+            """)
+    Flux<TaskTombstoneEntity> findPageDeletedAfter(Instant deletedOn, UUID taskId, Instant until, int limit);
+
+    @Modifying
+    @Query("""
+            DELETE FROM personal_kanban_board.task_tombstones
+            WHERE deleted_on < :deletedBefore
+            """)
+    Mono<Long> deleteAllDeletedBefore(Instant deletedBefore);
+}
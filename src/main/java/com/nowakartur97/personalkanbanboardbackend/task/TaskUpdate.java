@@ -0,0 +1,10 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Fields left empty are not changed, unless the whole task is replaced, then they are cleared
+record TaskUpdate(String title, String description, TaskStatus status, TaskPriority priority, LocalDate targetEndDate,
+                  UUID assignedTo, UUID updatedBy, Instant updatedOn, boolean replacesAll) {
+}
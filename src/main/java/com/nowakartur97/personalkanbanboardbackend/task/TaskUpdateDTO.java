@@ -0,0 +1,23 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+@AllArgsConstructor
+@Getter
+@ToString
+public class TaskUpdateDTO {
+
+    private UUID taskId;
+    @Valid
+    private TaskDTO taskDTO;
+    private Long expectedVersion;
+
+    public TaskUpdateDTO(UUID taskId, TaskDTO taskDTO) {
+        this(taskId, taskDTO, null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+// Updates a task with a single statement returning the updated row, without reading the task first
+@Repository
+@RequiredArgsConstructor
+public class TaskUpdateRepository {
+
+    private final static String TITLE_COLUMN = "title";
+    private final static String DESCRIPTION_COLUMN = "description";
+    private final static String STATUS_COLUMN = "status_code";
+    private final static String PRIORITY_COLUMN = "priority_code";
+    private final static String TARGET_END_DATE_COLUMN = "target_end_date";
+    private final static String ASSIGNED_TO_COLUMN = "assigned_to";
+    private final static String UPDATED_BY_COLUMN = "updated_by";
+    private final static String UPDATED_ON_COLUMN = "updated_on";
+
+    private final static String POSTGRES_DATABASE_NAME = "PostgreSQL";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
+    private final ConnectionFactory connectionFactory;
+
+    // Nothing is returned when the task does not exist or its version is not the expected one.
+    // Postgres returns the row from the update itself, H2 reads it from the final table of the update.
+    Mono<TaskEntity> update(UUID taskId, TaskUpdate taskUpdate, Long expectedVersion) {
+        Map<String, Parameter> values = mapToColumnValues(taskUpdate);
+        StringBuilder update = new StringBuilder("UPDATE personal_kanban_board.tasks SET ");
+        values.keySet().forEach(column -> update.append(column).append(" = :").append(column).append(", "));
+        update.append("version = version + 1 WHERE task_id = :taskId");
+        if (expectedVersion != null) {
+            update.append(" AND version = :expectedVersion");
+        }
+        String sql = isPostgres() ? update + " RETURNING *" : "SELECT * FROM FINAL TABLE (" + update + ")";
+
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql(sql)
+                .bind("taskId", taskId);
+        for (Map.Entry<String, Parameter> value : values.entrySet()) {
+            executeSpec = executeSpec.bind(value.getKey(), value.getValue());
+        }
+        if (expectedVersion != null) {
+            executeSpec = executeSpec.bind("expectedVersion", expectedVersion);
+        }
+        return executeSpec
+                .map((row, rowMetadata) -> r2dbcEntityTemplate.getConverter().read(TaskEntity.class, row, rowMetadata))
+                .one();
+    }
+
+    // Only the changed columns are set, every column is set when the whole task is replaced
+    private Map<String, Parameter> mapToColumnValues(TaskUpdate taskUpdate) {
+        Map<String, Parameter> values = new LinkedHashMap<>();
+        putValue(values, TITLE_COLUMN, taskUpdate.title(), String.class, taskUpdate.replacesAll());
+        putValue(values, DESCRIPTION_COLUMN, taskUpdate.description(), String.class, taskUpdate.replacesAll());
+        putValue(values, STATUS_COLUMN, taskUpdate.status() != null ? taskUpdate.status().getCode() : null, Short.class,
+                taskUpdate.replacesAll());
+        putValue(values, PRIORITY_COLUMN, taskUpdate.priority() != null ? taskUpdate.priority().getCode() : null, Short.class,
+                taskUpdate.replacesAll());
+        putValue(values, TARGET_END_DATE_COLUMN, taskUpdate.targetEndDate(), LocalDate.class, taskUpdate.replacesAll());
+        putValue(values, ASSIGNED_TO_COLUMN, taskUpdate.assignedTo(), UUID.class, taskUpdate.replacesAll());
+        putValue(values, UPDATED_BY_COLUMN, taskUpdate.updatedBy(), UUID.class, true);
+        putValue(values, UPDATED_ON_COLUMN, taskUpdate.updatedOn(), Instant.class, true);
+        return values;
+    }
+
+    private <T> void putValue(Map<String, Parameter> values, String column, T value, Class<T> type, boolean clearedWhenEmpty) {
+        if (value != null || clearedWhenEmpty) {
+            values.put(column, Parameter.fromOrEmpty(value, type));
+        }
+    }
+
+    private boolean isPostgres() {
+        return POSTGRES_DATABASE_NAME.equals(connectionFactory.getMetadata().getName());
+    }
+}
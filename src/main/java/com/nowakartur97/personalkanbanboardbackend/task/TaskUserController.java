@@ -0,0 +1,42 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.exception.ResourceNotFoundException;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import org.dataloader.DataLoader;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Controller
+public class TaskUserController {
+
+    @SchemaMapping(typeName = "TaskResponse")
+    public CompletableFuture<String> createdBy(TaskResponse taskResponse, DataLoader<UUID, UserEntity> userLoader) {
+        return getUsername(taskResponse.createdBy(), taskResponse.createdById(), userLoader);
+    }
+
+    @SchemaMapping(typeName = "TaskResponse")
+    public CompletableFuture<String> updatedBy(TaskResponse taskResponse, DataLoader<UUID, UserEntity> userLoader) {
+        return getUsername(taskResponse.updatedBy(), taskResponse.updatedById(), userLoader);
+    }
+
+    @SchemaMapping(typeName = "TaskResponse")
+    public CompletableFuture<String> assignedTo(TaskResponse taskResponse, DataLoader<UUID, UserEntity> userLoader) {
+        return getUsername(taskResponse.assignedTo(), taskResponse.assignedToId(), userLoader);
+    }
+
+    private CompletableFuture<String> getUsername(String username, UUID userId, DataLoader<UUID, UserEntity> userLoader) {
+        if (username != null || userId == null) {
+            return CompletableFuture.completedFuture(username);
+        }
+        return userLoader.load(userId)
+                .thenApply(user -> {
+                    if (user == null) {
+                        throw new ResourceNotFoundException("User", "userId", userId.toString());
+                    }
+                    return user.getUsername();
+                });
+    }
+}
@@ -0,0 +1,9 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.common.PageInfo;
+
+import java.util.List;
+
+// Once resync is required the changes can no longer be followed, the client has to load all tasks again
+public record TasksDelta(List<TaskResponse> changed, List<TaskTombstone> deleted, boolean resyncRequired, PageInfo pageInfo) {
+}
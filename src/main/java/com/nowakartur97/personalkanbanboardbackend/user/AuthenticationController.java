@@ -1,11 +1,11 @@
 package com.nowakartur97.personalkanbanboardbackend.user;
 
+import com.nowakartur97.personalkanbanboardbackend.auth.ReactivePasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Controller;
 import reactor.core.publisher.Mono;
 
@@ -15,7 +15,7 @@ import reactor.core.publisher.Mono;
 public class AuthenticationController {
 
     private final UserService userService;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ReactivePasswordEncoder reactivePasswordEncoder;
     private final UserMapper userMapper;
 
     @QueryMapping
@@ -24,16 +24,17 @@ public class AuthenticationController {
         log.info("New authentication request for user with username/email: {}", authenticationRequest.getUsernameOrEmail());
 
         return userService.findByUsernameOrEmail(authenticationRequest.getUsernameOrEmail())
-                .map(userEntity -> {
-                    if (isPasswordCorrect(authenticationRequest, userEntity)) {
-                        return userMapper.mapToResponse(userEntity);
-                    } else {
-                        throw new BadCredentialsException("Invalid login credentials.");
-                    }
-                });
+                .flatMap(userEntity -> isPasswordCorrect(authenticationRequest, userEntity)
+                        .map(isPasswordCorrect -> {
+                            if (isPasswordCorrect) {
+                                return userMapper.mapToResponse(userEntity);
+                            } else {
+                                throw new BadCredentialsException("Invalid login credentials.");
+                            }
+                        }));
     }
 
-    private boolean isPasswordCorrect(AuthenticationRequest authenticationRequest, UserEntity userEntity) {
-        return bCryptPasswordEncoder.matches(authenticationRequest.getPassword(), userEntity.getPassword());
+    private Mono<Boolean> isPasswordCorrect(AuthenticationRequest authenticationRequest, UserEntity userEntity) {
+        return reactivePasswordEncoder.matches(authenticationRequest.getPassword(), userEntity.getPassword());
     }
 }
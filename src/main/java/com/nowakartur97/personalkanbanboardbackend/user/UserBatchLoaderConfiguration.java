@@ -0,0 +1,25 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+
+import java.util.List;
+import java.util.UUID;
+
+// Every user referenced within a single GraphQL request is fetched with one IN (...) query
+@Configuration
+@RequiredArgsConstructor
+class UserBatchLoaderConfiguration {
+
+    private final BatchLoaderRegistry batchLoaderRegistry;
+    private final UserService userService;
+
+    @PostConstruct
+    public void registerUserBatchLoader() {
+        batchLoaderRegistry.forTypePair(UUID.class, UserEntity.class)
+                .registerMappedBatchLoader((userIds, env) -> userService.findAllByIds(List.copyOf(userIds))
+                        .collectMap(UserEntity::getUserId));
+    }
+}
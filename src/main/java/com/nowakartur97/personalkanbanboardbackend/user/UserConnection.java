@@ -0,0 +1,8 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+import com.nowakartur97.personalkanbanboardbackend.common.PageInfo;
+
+import java.util.List;
+
+public record UserConnection(List<UserEdge> edges, PageInfo pageInfo) {
+}
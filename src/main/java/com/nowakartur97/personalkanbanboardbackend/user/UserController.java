@@ -1,22 +1,34 @@
 package com.nowakartur97.personalkanbanboardbackend.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 @Controller
 @RequiredArgsConstructor
 @PreAuthorize("hasAuthority('USER')")
 public class UserController {
 
+    private final static int DEFAULT_PAGE_SIZE = 20;
+
     private final UserService userService;
     private final UserMapper userMapper;
 
     @QueryMapping
-    public Flux<UserResponse> users() {
-        return userService.findAll()
-                .map(userMapper::mapToResponse);
+    public Mono<UserConnection> users(@Argument Integer first, @Argument String after) {
+        int pageSize = first != null ? first : DEFAULT_PAGE_SIZE;
+        UserCursor afterCursor = UserCursor.decode(after);
+        return userService.findAll(pageSize + 1, afterCursor != null ? afterCursor.username() : null)
+                .collectList()
+                .map(users -> {
+                    boolean hasNextPage = users.size() > pageSize;
+                    List<UserEntity> pageUsers = hasNextPage ? users.subList(0, pageSize) : users;
+                    return userMapper.mapToConnection(pageUsers, hasNextPage);
+                });
     }
 }
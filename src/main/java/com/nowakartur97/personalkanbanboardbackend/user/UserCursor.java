@@ -0,0 +1,29 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+import com.nowakartur97.personalkanbanboardbackend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque position of a user in the username ordering used for pagination
+record UserCursor(String username) {
+
+    static UserCursor of(UserEntity userEntity) {
+        return new UserCursor(userEntity.getUsername());
+    }
+
+    static UserCursor decode(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return new UserCursor(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(username.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,4 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+public record UserEdge(String cursor, UserSummary node) {
+}
@@ -2,33 +2,55 @@ package com.nowakartur97.personalkanbanboardbackend.user;
 
 import com.nowakartur97.personalkanbanboardbackend.auth.JWTConfigurationProperties;
 import com.nowakartur97.personalkanbanboardbackend.auth.JWTUtil;
+import com.nowakartur97.personalkanbanboardbackend.common.PageInfo;
+import com.nowakartur97.personalkanbanboardbackend.common.UUIDv7Generator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class UserMapper {
 
     private final JWTUtil jwtUtil;
     private final JWTConfigurationProperties jwtConfigurationProperties;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
 
-    public UserEntity mapToEntity(UserDTO userDTO) {
+    public UserEntity mapToEntity(UserDTO userDTO, String encodedPassword) {
         return UserEntity.builder()
+                .userId(UUIDv7Generator.generate())
                 .username(userDTO.getUsername())
-                .password(bCryptPasswordEncoder.encode(userDTO.getPassword()))
+                .password(encodedPassword)
                 .email(userDTO.getEmail())
                 .role(UserRole.USER)
                 .build();
     }
 
+    public UserSummary mapToSummary(UserEntity userEntity) {
+        return new UserSummary(
+                userEntity.getUserId(),
+                userEntity.getUsername(),
+                userEntity.getEmail(),
+                userEntity.getRole());
+    }
+
+    public UserConnection mapToConnection(List<UserEntity> users, boolean hasNextPage) {
+        List<UserEdge> edges = new ArrayList<>(users.size());
+        for (UserEntity user : users) {
+            edges.add(new UserEdge(UserCursor.of(user).encode(), mapToSummary(user)));
+        }
+        String endCursor = edges.isEmpty() ? null : edges.getLast().cursor();
+        return new UserConnection(edges, new PageInfo(hasNextPage, endCursor));
+    }
+
+    // Signs a new token, so it is meant only for the authenticated user itself
     public UserResponse mapToResponse(UserEntity userEntity) {
         return new UserResponse(
                 userEntity.getUserId(),
                 userEntity.getUsername(),
                 userEntity.getEmail(),
-                jwtUtil.generateToken(userEntity.getUsername(), userEntity.getRole().name()),
+                jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name()),
                 jwtConfigurationProperties.getExpirationTimeInMilliseconds(),
                 userEntity.getRole());
     }
@@ -1,11 +1,11 @@
 package com.nowakartur97.personalkanbanboardbackend.user;
 
+import com.nowakartur97.personalkanbanboardbackend.auth.ReactivePasswordEncoder;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Mono;
@@ -17,7 +17,7 @@ import reactor.core.publisher.Mono;
 public class UserRegistrationController {
 
     private final UserService userService;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final ReactivePasswordEncoder reactivePasswordEncoder;
     private final UserMapper userMapper;
     private final UserValidator userValidator;
 
@@ -28,7 +28,8 @@ public class UserRegistrationController {
                 userDTO.getUsername(), userDTO.getEmail());
 
         return userValidator.validate(userDTO)
-                .map(__ -> userMapper.mapToEntity(userDTO))
+                .flatMap(__ -> reactivePasswordEncoder.encode(userDTO.getPassword()))
+                .map(encodedPassword -> userMapper.mapToEntity(userDTO, encodedPassword))
                 .flatMap(userService::save)
                 .map(userMapper::mapToResponse);
     }
@@ -1,7 +1,9 @@
 package com.nowakartur97.personalkanbanboardbackend.user;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -9,6 +11,34 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends R2dbcRepository<UserEntity, UUID> {
     Mono<UserEntity> findByUsername(String username);
+
+    // Case-insensitive, read from the indexes on lower(username) and lower(email)
+    @Query("""
+            SELECT * FROM personal_kanban_board.users
+            WHERE lower(username) = lower(:username) OR lower(email) = lower(:email)
+            """)
     Mono<UserEntity> findByUsernameOrEmail(String username, String email);
+
+    @Query("""
+            SELECT EXISTS (
+                SELECT 1 FROM personal_kanban_board.users
+                WHERE lower(username) = lower(:username) OR lower(email) = lower(:email)
+            )
+            """)
     Mono<Boolean> existsByUsernameOrEmail(String username, String email);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.users
+            ORDER BY username
+            LIMIT :limit
+            """)
+    Flux<UserEntity> findFirstPage(int limit);
+
+    @Query("""
+            SELECT * FROM personal_kanban_board.users
+            WHERE username > :username
+            ORDER BY username
+            LIMIT :limit
+            """)
+    Flux<UserEntity> findPageAfter(String username, int limit);
 }
@@ -1,8 +1,10 @@
 package com.nowakartur97.personalkanbanboardbackend.user;
 
+import com.nowakartur97.personalkanbanboardbackend.auth.PrincipalCache;
 import com.nowakartur97.personalkanbanboardbackend.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -17,6 +19,8 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final R2dbcEntityTemplate r2dbcEntityTemplate;
 
     public Mono<UserEntity> findById(UUID userId) {
 
@@ -51,11 +55,14 @@ public class UserService {
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("User", "username/email", usernameOrEmail)));
     }
 
-    public Flux<UserEntity> findAll() {
+    Flux<UserEntity> findAll(int limit, String afterUsername) {
 
-        log.info("Looking up all users");
+        log.info("Looking up {} users after username: '{}'", limit, afterUsername);
 
-        return userRepository.findAll();
+        if (afterUsername == null) {
+            return userRepository.findFirstPage(limit);
+        }
+        return userRepository.findPageAfter(afterUsername, limit);
     }
 
     public Flux<UserEntity> findAllByIds(List<UUID> ids) {
@@ -72,10 +79,12 @@ public class UserService {
         return userRepository.existsByUsernameOrEmail(username, email);
     }
 
+    // Always an insert, the id generated by the application does not make the user look like an existing one
     public Mono<UserEntity> save(UserEntity user) {
 
         log.info("Registration of new user: {}", user);
 
-        return userRepository.save(user);
+        return r2dbcEntityTemplate.insert(user)
+                .doOnNext(savedUser -> principalCache.invalidate(savedUser.getUsername()));
     }
 }
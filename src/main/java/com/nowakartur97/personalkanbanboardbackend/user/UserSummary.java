@@ -0,0 +1,9 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+import java.util.UUID;
+
+public record UserSummary(UUID userId,
+                          String username,
+                          String email,
+                          UserRole role) {
+}
@@ -0,0 +1,57 @@
+package db.migration.postgres;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+// Backfills the codes of the existing tasks in batches following the primary key. Every batch is committed on its own,
+// so rows are locked only briefly and the table stays writable while the migration runs. Rows written in the meantime
+// already get their codes from the trigger keeping both sides in sync.
+public class V2024_06_17_09_10__BackfillTaskStatusAndPriorityCodes extends BaseJavaMigration {
+
+    private final static int BATCH_SIZE = 10000;
+    private final static UUID MIN_TASK_ID = new UUID(0L, 0L);
+    private final static String BACKFILL_BATCH_SQL = """
+            WITH batch AS (
+                SELECT task_id FROM personal_kanban_board.tasks
+                WHERE task_id > ?
+                ORDER BY task_id
+                LIMIT ?
+            ), backfilled AS (
+                UPDATE personal_kanban_board.tasks tasks
+                SET status_code = personal_kanban_board.task_status_code(tasks.status),
+                    priority_code = personal_kanban_board.task_priority_code(tasks.priority)
+                FROM batch
+                WHERE tasks.task_id = batch.task_id AND (tasks.status_code IS NULL OR tasks.priority_code IS NULL)
+            )
+            SELECT task_id FROM batch ORDER BY task_id DESC LIMIT 1
+            """;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(BACKFILL_BATCH_SQL)) {
+            UUID lastTaskId = MIN_TASK_ID;
+            while (lastTaskId != null) {
+                statement.setObject(1, lastTaskId);
+                statement.setInt(2, BATCH_SIZE);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    lastTaskId = resultSet.next() ? resultSet.getObject(1, UUID.class) : null;
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,2 @@
+CREATE INDEX "idx_tasks_created_on_task_id" ON PERSONAL_KANBAN_BOARD.TASKS ("CREATED_ON", "TASK_ID");
+CREATE INDEX "idx_tasks_assigned_to_created_on_task_id" ON PERSONAL_KANBAN_BOARD.TASKS ("ASSIGNED_TO", "CREATED_ON", "TASK_ID");
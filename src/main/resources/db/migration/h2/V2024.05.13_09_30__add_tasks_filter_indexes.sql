@@ -0,0 +1,3 @@
+CREATE INDEX "idx_tasks_status" ON PERSONAL_KANBAN_BOARD.TASKS ("STATUS");
+CREATE INDEX "idx_tasks_assigned_to_status" ON PERSONAL_KANBAN_BOARD.TASKS ("ASSIGNED_TO", "STATUS");
+CREATE INDEX "idx_tasks_target_end_date" ON PERSONAL_KANBAN_BOARD.TASKS ("TARGET_END_DATE");
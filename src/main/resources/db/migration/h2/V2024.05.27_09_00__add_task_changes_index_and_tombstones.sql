@@ -0,0 +1,8 @@
+-- H2 does not support indexes on expressions, changes of tasks are read without an index
+
+CREATE TABLE PERSONAL_KANBAN_BOARD.TASK_TOMBSTONES (
+    "TASK_ID" UUID PRIMARY KEY,
+    "DELETED_ON" TIMESTAMP NOT NULL
+);
+
+CREATE INDEX "idx_task_tombstones_deleted_on_task_id" ON PERSONAL_KANBAN_BOARD.TASK_TOMBSTONES ("DELETED_ON", "TASK_ID");
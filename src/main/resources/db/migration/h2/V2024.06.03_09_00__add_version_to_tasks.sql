@@ -0,0 +1 @@
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS ADD COLUMN "VERSION" BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS ADD COLUMN "STATUS_CODE" SMALLINT;
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS ADD COLUMN "PRIORITY_CODE" SMALLINT;
+
+UPDATE PERSONAL_KANBAN_BOARD.TASKS SET
+    "STATUS_CODE" = CASE "STATUS"
+        WHEN 'READY_TO_START' THEN 1
+        WHEN 'IN_PROGRESS' THEN 2
+        WHEN 'DONE' THEN 3
+    END,
+    "PRIORITY_CODE" = CASE "PRIORITY"
+        WHEN 'LOW' THEN 1
+        WHEN 'MEDIUM' THEN 2
+        WHEN 'HIGH' THEN 3
+    END;
@@ -0,0 +1,2 @@
+CREATE INDEX "idx_tasks_status_code" ON PERSONAL_KANBAN_BOARD.TASKS ("STATUS_CODE");
+CREATE INDEX "idx_tasks_assigned_to_status_code" ON PERSONAL_KANBAN_BOARD.TASKS ("ASSIGNED_TO", "STATUS_CODE");
@@ -0,0 +1,4 @@
+-- H2 does not support indexes on expressions, case-insensitive user lookups are read without an index
+
+CREATE INDEX "idx_tasks_created_by" ON PERSONAL_KANBAN_BOARD.TASKS ("CREATED_BY");
+CREATE INDEX "idx_tasks_updated_by" ON PERSONAL_KANBAN_BOARD.TASKS ("UPDATED_BY");
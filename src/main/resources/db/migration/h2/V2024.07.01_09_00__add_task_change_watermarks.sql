@@ -0,0 +1,6 @@
+CREATE TABLE PERSONAL_KANBAN_BOARD.TASK_CHANGE_WATERMARKS (
+    "NAME" VARCHAR(50) PRIMARY KEY,
+    "WATERMARK" TIMESTAMP NOT NULL
+);
+
+INSERT INTO PERSONAL_KANBAN_BOARD.TASK_CHANGE_WATERMARKS ("NAME", "WATERMARK") VALUES ('TOMBSTONES_PRUNED', '1970-01-01 00:00:00');
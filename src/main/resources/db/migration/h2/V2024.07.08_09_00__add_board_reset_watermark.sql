@@ -0,0 +1 @@
+INSERT INTO PERSONAL_KANBAN_BOARD.TASK_CHANGE_WATERMARKS ("NAME", "WATERMARK") VALUES ('BOARD_RESET', '1970-01-01 00:00:00');
@@ -0,0 +1,7 @@
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS ALTER COLUMN "STATUS_CODE" SET NOT NULL;
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS ALTER COLUMN "PRIORITY_CODE" SET NOT NULL;
+
+DROP INDEX PERSONAL_KANBAN_BOARD."idx_tasks_status";
+DROP INDEX PERSONAL_KANBAN_BOARD."idx_tasks_assigned_to_status";
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS DROP COLUMN "STATUS";
+ALTER TABLE PERSONAL_KANBAN_BOARD.TASKS DROP COLUMN "PRIORITY";
@@ -0,0 +1,11 @@
+CREATE TABLE PERSONAL_KANBAN_BOARD.TASK_DELETION_JOBS (
+    "JOB_ID" UUID PRIMARY KEY,
+    "STATUS" VARCHAR(20) NOT NULL,
+    "DELETED_TASKS" BIGINT NOT NULL,
+    "STARTED_ON" TIMESTAMP NOT NULL,
+    "HEARTBEAT_ON" TIMESTAMP NOT NULL,
+    "FINISHED_ON" TIMESTAMP,
+    "ERROR" VARCHAR(1000)
+);
+
+CREATE INDEX "idx_task_deletion_jobs_status_heartbeat_on" ON PERSONAL_KANBAN_BOARD.TASK_DELETION_JOBS ("STATUS", "HEARTBEAT_ON");
@@ -0,0 +1,2 @@
+CREATE INDEX "idx_tasks_created_on_task_id" ON personal_kanban_board.tasks ("created_on", "task_id");
+CREATE INDEX "idx_tasks_assigned_to_created_on_task_id" ON personal_kanban_board.tasks ("assigned_to", "created_on", "task_id");
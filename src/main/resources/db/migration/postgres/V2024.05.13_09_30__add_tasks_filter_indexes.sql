@@ -0,0 +1,3 @@
+CREATE INDEX "idx_tasks_status" ON personal_kanban_board.tasks ("status");
+CREATE INDEX "idx_tasks_assigned_to_status" ON personal_kanban_board.tasks ("assigned_to", "status");
+CREATE INDEX "idx_tasks_target_end_date" ON personal_kanban_board.tasks ("target_end_date");
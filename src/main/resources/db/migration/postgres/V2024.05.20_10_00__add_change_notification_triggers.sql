@@ -0,0 +1,41 @@
+CREATE FUNCTION personal_kanban_board.notify_task_change() RETURNS TRIGGER AS $$
+DECLARE
+    changed_task_id UUID;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed_task_id := OLD.task_id;
+    ELSE
+        changed_task_id := NEW.task_id;
+    END IF;
+    PERFORM pg_notify('personal_kanban_board_changes',
+        json_build_object('table', TG_TABLE_NAME, 'operation', TG_OP, 'id', changed_task_id)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER "tasks_notify_change"
+    AFTER INSERT OR UPDATE OR DELETE ON personal_kanban_board.tasks
+    FOR EACH ROW EXECUTE FUNCTION personal_kanban_board.notify_task_change();
+
+-- Principals are cached by username, so the previous username is sent for updated and deleted users
+CREATE FUNCTION personal_kanban_board.notify_user_change() RETURNS TRIGGER AS $$
+DECLARE
+    changed_user_id UUID;
+    changed_username VARCHAR;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        changed_user_id := NEW.user_id;
+        changed_username := NEW.username;
+    ELSE
+        changed_user_id := OLD.user_id;
+        changed_username := OLD.username;
+    END IF;
+    PERFORM pg_notify('personal_kanban_board_changes',
+        json_build_object('table', TG_TABLE_NAME, 'operation', TG_OP, 'id', changed_user_id, 'username', changed_username)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER "users_notify_change"
+    AFTER INSERT OR UPDATE OR DELETE ON personal_kanban_board.users
+    FOR EACH ROW EXECUTE FUNCTION personal_kanban_board.notify_user_change();
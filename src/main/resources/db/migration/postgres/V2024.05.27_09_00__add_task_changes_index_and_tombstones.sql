@@ -0,0 +1,8 @@
+CREATE INDEX "idx_tasks_changed_on_task_id" ON personal_kanban_board.tasks ((COALESCE("updated_on", "created_on")), "task_id");
+
+CREATE TABLE personal_kanban_board.task_tombstones (
+    "task_id" UUID PRIMARY KEY,
+    "deleted_on" TIMESTAMP NOT NULL
+);
+
+CREATE INDEX "idx_task_tombstones_deleted_on_task_id" ON personal_kanban_board.task_tombstones ("deleted_on", "task_id");
@@ -0,0 +1 @@
+ALTER TABLE personal_kanban_board.tasks ADD COLUMN "version" BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Time-ordered ids append to the right edge of the primary key indexes instead of spreading over the whole B-tree.
+-- The application generates them itself, the defaults cover rows inserted directly in the database.
+CREATE FUNCTION personal_kanban_board.uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    uuid_bytes BYTEA;
+BEGIN
+    uuid_bytes := uuid_send(gen_random_uuid());
+    uuid_bytes := overlay(uuid_bytes PLACING substring(int8send(floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT) FROM 3) FROM 1 FOR 6);
+    uuid_bytes := set_byte(uuid_bytes, 6, (b'0111' || get_byte(uuid_bytes, 6)::BIT(4))::BIT(8)::INT);
+    RETURN encode(uuid_bytes, 'hex')::UUID;
+END;
+$$ LANGUAGE plpgsql VOLATILE;
+
+ALTER TABLE personal_kanban_board.tasks ALTER COLUMN "task_id" SET DEFAULT personal_kanban_board.uuid_generate_v7();
+ALTER TABLE personal_kanban_board.users ALTER COLUMN "user_id" SET DEFAULT personal_kanban_board.uuid_generate_v7();
@@ -0,0 +1,50 @@
+-- Expand: codes are stored in new nullable columns next to the enum names, adding them does not rewrite the table.
+-- Until the names are dropped every write keeps both sides in sync, so instances reading either of them run side by side.
+ALTER TABLE personal_kanban_board.tasks
+    ADD COLUMN "status_code" SMALLINT,
+    ADD COLUMN "priority_code" SMALLINT;
+
+CREATE FUNCTION personal_kanban_board.task_status_code(status VARCHAR) RETURNS SMALLINT AS $$
+    SELECT CASE status WHEN 'READY_TO_START' THEN 1 WHEN 'IN_PROGRESS' THEN 2 WHEN 'DONE' THEN 3 END::SMALLINT;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION personal_kanban_board.task_status_name(status_code SMALLINT) RETURNS VARCHAR AS $$
+    SELECT CASE status_code WHEN 1 THEN 'READY_TO_START' WHEN 2 THEN 'IN_PROGRESS' WHEN 3 THEN 'DONE' END;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION personal_kanban_board.task_priority_code(priority VARCHAR) RETURNS SMALLINT AS $$
+    SELECT CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END::SMALLINT;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE FUNCTION personal_kanban_board.task_priority_name(priority_code SMALLINT) RETURNS VARCHAR AS $$
+    SELECT CASE priority_code WHEN 1 THEN 'LOW' WHEN 2 THEN 'MEDIUM' WHEN 3 THEN 'HIGH' END;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Whichever side a write has changed is copied to the other one, rows not backfilled yet get their codes on any update.
+-- Runs before the row is stored, so the NOT NULL names are set before the constraint is checked.
+CREATE FUNCTION personal_kanban_board.sync_task_status_and_priority_codes() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.status_code := COALESCE(NEW.status_code, personal_kanban_board.task_status_code(NEW.status));
+        NEW.status := COALESCE(NEW.status, personal_kanban_board.task_status_name(NEW.status_code));
+        NEW.priority_code := COALESCE(NEW.priority_code, personal_kanban_board.task_priority_code(NEW.priority));
+        NEW.priority := COALESCE(NEW.priority, personal_kanban_board.task_priority_name(NEW.priority_code));
+        RETURN NEW;
+    END IF;
+    IF NEW.status_code IS DISTINCT FROM OLD.status_code THEN
+        NEW.status := personal_kanban_board.task_status_name(NEW.status_code);
+    ELSIF NEW.status IS DISTINCT FROM OLD.status OR NEW.status_code IS NULL THEN
+        NEW.status_code := personal_kanban_board.task_status_code(NEW.status);
+    END IF;
+    IF NEW.priority_code IS DISTINCT FROM OLD.priority_code THEN
+        NEW.priority := personal_kanban_board.task_priority_name(NEW.priority_code);
+    ELSIF NEW.priority IS DISTINCT FROM OLD.priority OR NEW.priority_code IS NULL THEN
+        NEW.priority_code := personal_kanban_board.task_priority_code(NEW.priority);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER "tasks_sync_status_and_priority_codes"
+    BEFORE INSERT OR UPDATE ON personal_kanban_board.tasks
+    FOR EACH ROW EXECUTE FUNCTION personal_kanban_board.sync_task_status_and_priority_codes();
@@ -0,0 +1,4 @@
+-- Built without blocking writes to the table, Flyway runs these statements outside of a transaction.
+-- They replace the indexes on the status names, which are dropped together with the names.
+CREATE INDEX CONCURRENTLY "idx_tasks_status_code" ON personal_kanban_board.tasks ("status_code");
+CREATE INDEX CONCURRENTLY "idx_tasks_assigned_to_status_code" ON personal_kanban_board.tasks ("assigned_to", "status_code");
@@ -0,0 +1,6 @@
+-- Built without blocking writes to the tables, Flyway runs these statements outside of a transaction.
+-- assigned_to is already the leading column of the keyset pagination and filter indexes.
+CREATE INDEX CONCURRENTLY "idx_tasks_created_by" ON personal_kanban_board.tasks ("created_by");
+CREATE INDEX CONCURRENTLY "idx_tasks_updated_by" ON personal_kanban_board.tasks ("updated_by") WHERE "updated_by" IS NOT NULL;
+CREATE INDEX CONCURRENTLY "idx_users_lower_username" ON personal_kanban_board.users (lower("username"));
+CREATE INDEX CONCURRENTLY "idx_users_lower_email" ON personal_kanban_board.users (lower("email"));
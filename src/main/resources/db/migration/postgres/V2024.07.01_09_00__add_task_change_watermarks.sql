@@ -0,0 +1,6 @@
+CREATE TABLE personal_kanban_board.task_change_watermarks (
+    "name" VARCHAR(50) PRIMARY KEY,
+    "watermark" TIMESTAMP NOT NULL
+);
+
+INSERT INTO personal_kanban_board.task_change_watermarks ("name", "watermark") VALUES ('TOMBSTONES_PRUNED', '1970-01-01 00:00:00');
@@ -0,0 +1,14 @@
+INSERT INTO personal_kanban_board.task_change_watermarks ("name", "watermark") VALUES ('BOARD_RESET', '1970-01-01 00:00:00');
+
+-- Truncating the tasks table fires no row triggers, a single reset is notified for the whole table instead
+CREATE FUNCTION personal_kanban_board.notify_tasks_truncate() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('personal_kanban_board_changes',
+        json_build_object('table', TG_TABLE_NAME, 'operation', TG_OP)::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER "tasks_notify_truncate"
+    AFTER TRUNCATE ON personal_kanban_board.tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION personal_kanban_board.notify_tasks_truncate();
@@ -0,0 +1,5 @@
+-- Adding the checks without validating them holds the exclusive lock only briefly, as the existing rows are not scanned.
+-- New rows already get their codes from the trigger keeping them in sync with the names.
+ALTER TABLE personal_kanban_board.tasks
+    ADD CONSTRAINT "tasks_status_code_not_null" CHECK ("status_code" IS NOT NULL) NOT VALID,
+    ADD CONSTRAINT "tasks_priority_code_not_null" CHECK ("priority_code" IS NOT NULL) NOT VALID;
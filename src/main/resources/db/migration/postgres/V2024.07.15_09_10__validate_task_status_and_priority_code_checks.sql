@@ -0,0 +1,3 @@
+-- Validated in a transaction of its own, the scan holds a lock that lets reads and writes through
+ALTER TABLE personal_kanban_board.tasks VALIDATE CONSTRAINT "tasks_status_code_not_null";
+ALTER TABLE personal_kanban_board.tasks VALIDATE CONSTRAINT "tasks_priority_code_not_null";
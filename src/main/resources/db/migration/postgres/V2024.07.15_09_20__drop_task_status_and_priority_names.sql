@@ -0,0 +1,21 @@
+-- Contract: instances reading or writing the names fail once they are dropped, so the instances of the previous
+-- release are stopped before this one starts, a rolling deploy across this migration is not supported.
+-- The validated checks already prove the codes are not null, so setting NOT NULL does not scan the table.
+DROP TRIGGER "tasks_sync_status_and_priority_codes" ON personal_kanban_board.tasks;
+DROP FUNCTION personal_kanban_board.sync_task_status_and_priority_codes();
+DROP FUNCTION personal_kanban_board.task_status_code(VARCHAR);
+DROP FUNCTION personal_kanban_board.task_status_name(SMALLINT);
+DROP FUNCTION personal_kanban_board.task_priority_code(VARCHAR);
+DROP FUNCTION personal_kanban_board.task_priority_name(SMALLINT);
+
+-- The checks are dropped in a statement of their own, as they have to be in place while NOT NULL is set
+ALTER TABLE personal_kanban_board.tasks
+    ALTER COLUMN "status_code" SET NOT NULL,
+    ALTER COLUMN "priority_code" SET NOT NULL;
+
+-- Dropping columns only marks them as dropped, the table is not rewritten
+ALTER TABLE personal_kanban_board.tasks
+    DROP CONSTRAINT "tasks_status_code_not_null",
+    DROP CONSTRAINT "tasks_priority_code_not_null",
+    DROP COLUMN "status",
+    DROP COLUMN "priority";
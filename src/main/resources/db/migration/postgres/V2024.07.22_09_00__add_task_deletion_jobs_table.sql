@@ -0,0 +1,12 @@
+CREATE TABLE personal_kanban_board.task_deletion_jobs (
+    "job_id" UUID PRIMARY KEY,
+    "status" VARCHAR(20) NOT NULL,
+    "deleted_tasks" BIGINT NOT NULL,
+    "started_on" TIMESTAMP NOT NULL,
+    "heartbeat_on" TIMESTAMP NOT NULL,
+    "finished_on" TIMESTAMP,
+    "error" VARCHAR(1000)
+);
+
+-- Running jobs are looked up by their last heartbeat to fail the ones whose instance is gone
+CREATE INDEX "idx_task_deletion_jobs_status_heartbeat_on" ON personal_kanban_board.task_deletion_jobs ("status", "heartbeat_on");
@@ -0,0 +1,47 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticationManagerTest extends IntegrationTest {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Test
+    public void whenAuthenticatingWithValidToken_shouldReturnClaimsOfToken() {
+
+        UserEntity userEntity = createUser();
+        String token = jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name());
+
+        StepVerifier.create(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(token, token)))
+                .assertNext(authentication -> {
+                    JWTClaims claims = (JWTClaims) authentication.getPrincipal();
+                    assertThat(claims.username()).isEqualTo(userEntity.getUsername());
+                    assertThat(claims.userId()).isEqualTo(userEntity.getUserId());
+                    assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("USER");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void whenAuthenticatingWithClaimsPrincipalAndInvalidToken_shouldRejectAuthentication() {
+
+        JWTClaims forgedClaims = new JWTClaims("admin", UUID.randomUUID(), List.of("ADMIN"), Instant.now().plusSeconds(60));
+
+        StepVerifier.create(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(forgedClaims, "invalid")))
+                .expectError(JwtException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,49 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounter;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounterTestConfiguration;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_OVERVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(SqlStatementCounterTestConfiguration.class)
+@TestPropertySource(properties = "app.jwt.user-verification=CLAIMS")
+public class ClaimsUserVerificationTest extends IntegrationTest {
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    public void whenGetTasksWithClaimsUserVerification_shouldNotLookUpUser() {
+
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "notExistingUser", UserRole.USER.name());
+        sqlStatementCounter.reset();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, token))
+                .build()
+                .document(GET_TASKS_OVERVIEW)
+                .execute()
+                .errors()
+                .verify();
+
+        assertThat(sqlStatementCounter.countSelectsFrom("personal_kanban_board.users")).isZero();
+    }
+
+    @Test
+    public void whenGetTasksWithClaimsUserVerificationAndTokenWithoutUserId_shouldLookUpUser() {
+
+        String token = jwtUtil.generateToken("notExistingUser", UserRole.USER.name());
+
+        runTestForSendingRequestWithInvalidCredentials(GET_TASKS_OVERVIEW, "tasks", token);
+    }
+}
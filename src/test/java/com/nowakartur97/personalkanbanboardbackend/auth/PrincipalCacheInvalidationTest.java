@@ -0,0 +1,77 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.PostgresStarter;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRepository;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The role of a user is changed through one instance, the principal cached by the other one is evicted by the change feed
+@Tag("test-container")
+public class PrincipalCacheInvalidationTest implements PostgresStarter {
+
+    private final static Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private final static Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext writingInstance;
+    private static ConfigurableApplicationContext listeningInstance;
+
+    @BeforeAll
+    public static void startInstances() {
+        writingInstance = PostgresStarter.startApplication();
+        listeningInstance = PostgresStarter.startApplication();
+    }
+
+    @AfterAll
+    public static void stopInstances() {
+        listeningInstance.close();
+        writingInstance.close();
+    }
+
+    @AfterEach
+    public void cleanUpTables() {
+        writingInstance.getBean(UserRepository.class).deleteAll().block();
+    }
+
+    @Test
+    public void whenRoleIsChangedByOneInstance_shouldEvictCachedPrincipalOnOtherInstance() {
+
+        UserRepository userRepository = writingInstance.getBean(UserRepository.class);
+        UserEntity userEntity = userRepository.save(UserEntity.builder()
+                        .username("testUser")
+                        .password("pass1")
+                        .email("testUser@domain.com")
+                        .role(UserRole.USER)
+                        .build())
+                .block();
+        PrincipalCache principalCache = listeningInstance.getBean(PrincipalCache.class);
+        UserPrincipal userPrincipal = new UserPrincipal(userEntity.getUserId(), UserRole.USER);
+        UserPrincipal adminPrincipal = new UserPrincipal(userEntity.getUserId(), UserRole.ADMIN);
+        principalCache.get(userEntity.getUsername(), username -> Mono.just(userPrincipal)).block();
+        assertThat(principalCache.get(userEntity.getUsername(), username -> Mono.just(adminPrincipal)).block())
+                .isEqualTo(userPrincipal);
+
+        userEntity.setRole(UserRole.ADMIN);
+        userRepository.save(userEntity).block();
+
+        // the cached principal is returned until the notification of the update is received
+        UserPrincipal reloadedUserPrincipal = Flux.interval(POLL_INTERVAL)
+                .concatMap(tick -> principalCache.get(userEntity.getUsername(), username -> Mono.just(adminPrincipal)))
+                .filter(adminPrincipal::equals)
+                .next()
+                .block(TIMEOUT);
+
+        assertThat(reloadedUserPrincipal).isEqualTo(adminPrincipal);
+    }
+}
@@ -0,0 +1,146 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounter;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounterTestConfiguration;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import com.nowakartur97.personalkanbanboardbackend.user.UserService;
+import graphql.ErrorClassification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_OVERVIEW;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASK_DELETION_JOB;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2 sends no change notifications, so only the invalidation by the instance itself and the time to live apply
+@Import(SqlStatementCounterTestConfiguration.class)
+@TestPropertySource(properties = {
+        "app.jwt.principal-cache.enabled=true",
+        "app.jwt.principal-cache.time-to-live=2s"
+})
+public class PrincipalCacheTest extends IntegrationTest {
+
+    private final static long TIME_TO_LIVE_MILLIS = 2000;
+
+    @Autowired
+    private PrincipalCache principalCache;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    // users are recreated with the same usernames by every test
+    @AfterEach
+    public void invalidatePrincipals() {
+        principalCache.invalidateAll();
+    }
+
+    @Test
+    public void whenSendingRequestsAsTheSameUser_shouldLookUpUserOnce() {
+
+        UserEntity userEntity = createUser();
+        String token = generateToken(userEntity);
+        sqlStatementCounter.reset();
+
+        sendGetTasksOverviewRequest(token);
+        sendGetTasksOverviewRequest(token);
+
+        assertThat(sqlStatementCounter.countSelectsFrom("personal_kanban_board.users")).isOne();
+    }
+
+    @Test
+    public void whenRoleIsChangedAndPrincipalInvalidated_shouldAuthorizeNextRequestWithNewRole() {
+
+        UserEntity userEntity = createUser();
+        String token = generateToken(userEntity);
+        assertThat(sendGetTaskDeletionJobRequest(token)).isEqualTo(ErrorType.FORBIDDEN);
+
+        changeRole(userEntity, UserRole.ADMIN);
+
+        assertThat(sendGetTaskDeletionJobRequest(token)).isEqualTo(ErrorType.FORBIDDEN);
+
+        principalCache.invalidate(userEntity.getUsername());
+
+        assertThat(sendGetTaskDeletionJobRequest(token)).isEqualTo(ErrorType.NOT_FOUND);
+    }
+
+    @Test
+    public void whenRoleIsChangedAndTimeToLivePasses_shouldAuthorizeNextRequestWithNewRole() throws InterruptedException {
+
+        UserEntity userEntity = createUser();
+        String token = generateToken(userEntity);
+        assertThat(sendGetTaskDeletionJobRequest(token)).isEqualTo(ErrorType.FORBIDDEN);
+
+        changeRole(userEntity, UserRole.ADMIN);
+        Thread.sleep(TIME_TO_LIVE_MILLIS + 500);
+
+        assertThat(sendGetTaskDeletionJobRequest(token)).isEqualTo(ErrorType.NOT_FOUND);
+    }
+
+    @Test
+    public void whenUserIsSaved_shouldInvalidateCachedPrincipalOfUsername() {
+
+        UserPrincipal cachedUserPrincipal = new UserPrincipal(UUID.randomUUID(), UserRole.ADMIN);
+        principalCache.get("testUser", username -> Mono.just(cachedUserPrincipal)).block();
+
+        UserEntity userEntity = userService.save(UserEntity.builder()
+                        .userId(UUID.randomUUID())
+                        .username("testUser")
+                        .password("pass1")
+                        .email("testUser@domain.com")
+                        .role(UserRole.USER)
+                        .build())
+                .block();
+        UserPrincipal loadedUserPrincipal = new UserPrincipal(userEntity.getUserId(), userEntity.getRole());
+
+        assertThat(principalCache.get("testUser", username -> Mono.just(loadedUserPrincipal)).block())
+                .isEqualTo(loadedUserPrincipal);
+    }
+
+    private String generateToken(UserEntity userEntity) {
+        return jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name());
+    }
+
+    private void changeRole(UserEntity userEntity, UserRole role) {
+        userEntity.setRole(role);
+        userRepository.save(userEntity).block();
+    }
+
+    private void sendGetTasksOverviewRequest(String token) {
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, token))
+                .build()
+                .document(GET_TASKS_OVERVIEW)
+                .execute()
+                .errors()
+                .verify();
+    }
+
+    // The job does not exist, so an admin gets NOT_FOUND, while a user is not allowed to look it up at all
+    private ErrorClassification sendGetTaskDeletionJobRequest(String token) {
+        ErrorClassification[] errorType = new ErrorClassification[1];
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, token))
+                .build()
+                .document(GET_TASK_DELETION_JOB)
+                .variable("jobId", UUID.randomUUID())
+                .execute()
+                .errors()
+                .satisfy(responseErrors -> {
+                    assertThat(responseErrors).hasSize(1);
+                    errorType[0] = responseErrors.getFirst().getErrorType();
+                });
+        return errorType[0];
+    }
+}
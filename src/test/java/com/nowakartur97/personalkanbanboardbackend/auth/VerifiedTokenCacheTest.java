@@ -0,0 +1,45 @@
+package com.nowakartur97.personalkanbanboardbackend.auth;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerifiedTokenCacheTest extends IntegrationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void whenSendingRequestsWithTheSameToken_shouldVerifyTokenOnce() {
+
+        UserEntity userEntity = createUser();
+        String token = jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name());
+        double hitsBefore = getCacheGets("hit");
+
+        for (int i = 0; i < 2; i++) {
+            httpGraphQlTester
+                    .mutate()
+                    .headers(headers -> addAuthorizationHeader(headers, token))
+                    .build()
+                    .document(GET_TASKS)
+                    .execute()
+                    .errors()
+                    .verify();
+        }
+
+        assertThat(getCacheGets("hit") - hitsBefore).isGreaterThanOrEqualTo(1);
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.verified-tokens")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
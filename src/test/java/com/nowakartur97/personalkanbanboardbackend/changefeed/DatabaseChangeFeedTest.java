@@ -0,0 +1,155 @@
+package com.nowakartur97.personalkanbanboardbackend.changefeed;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.PostgresStarter;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskEntity;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskPriority;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskRepository;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskStatus;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRepository;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+// Two instances of the application sharing one database, changes made by one of them are observed by the other
+@Tag("test-container")
+public class DatabaseChangeFeedTest implements PostgresStarter {
+
+    private final static Duration LISTEN_DELAY = Duration.ofSeconds(1);
+    private final static Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext writingInstance;
+    private static ConfigurableApplicationContext listeningInstance;
+
+    @BeforeAll
+    public static void startInstances() {
+        writingInstance = PostgresStarter.startApplication();
+        listeningInstance = PostgresStarter.startApplication();
+    }
+
+    @AfterAll
+    public static void stopInstances() {
+        listeningInstance.close();
+        writingInstance.close();
+    }
+
+    @AfterEach
+    public void cleanUpTables() {
+        writingInstance.getBean(TaskRepository.class).deleteAll().block();
+        writingInstance.getBean(UserRepository.class).deleteAll().block();
+    }
+
+    @Test
+    public void whenUserIsSavedByOneInstance_shouldPublishChangeOnOtherInstance() {
+
+        DatabaseChangeFeed databaseChangeFeed = listeningInstance.getBean(DatabaseChangeFeed.class);
+        assertThat(databaseChangeFeed.isActive()).isTrue();
+
+        StepVerifier.create(databaseChangeFeed.changes(DatabaseChangeFeed.USERS_TABLE).take(1))
+                .thenAwait(LISTEN_DELAY)
+                .then(() -> saveUser("testUser"))
+                .assertNext(change -> {
+                    assertThat(change.operation()).isEqualTo(DatabaseOperation.INSERT);
+                    assertThat(change.username()).isEqualTo("testUser");
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenTaskIsDeletedByOneInstance_shouldPublishChangeOnOtherInstance() {
+
+        UserEntity userEntity = saveUser("testUser");
+        TaskEntity taskEntity = saveTask(userEntity);
+        TaskRepository taskRepository = writingInstance.getBean(TaskRepository.class);
+
+        StepVerifier.create(listeningInstance.getBean(DatabaseChangeFeed.class).changes(DatabaseChangeFeed.TASKS_TABLE).take(1))
+                .thenAwait(LISTEN_DELAY)
+                .then(() -> taskRepository.deleteById(taskEntity.getTaskId()).block())
+                .assertNext(change -> {
+                    assertThat(change.operation()).isEqualTo(DatabaseOperation.DELETE);
+                    assertThat(change.id()).isEqualTo(taskEntity.getTaskId());
+                    assertThat(change.username()).isNull();
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenTasksAreTruncatedByOneInstance_shouldPublishSingleTruncateOnOtherInstance() {
+
+        UserEntity userEntity = saveUser("testUser");
+        saveTask(userEntity);
+        saveTask(userEntity);
+        TaskRepository taskRepository = writingInstance.getBean(TaskRepository.class);
+
+        // inserts made before subscribing may still be delivered, the truncate is expected to be the only change after them
+        Flux<DatabaseChange> changes = listeningInstance.getBean(DatabaseChangeFeed.class).changes(DatabaseChangeFeed.TASKS_TABLE)
+                .skipWhile(change -> change.operation() == DatabaseOperation.INSERT)
+                .take(LISTEN_DELAY.multipliedBy(2));
+
+        StepVerifier.create(changes)
+                .thenAwait(LISTEN_DELAY)
+                .then(() -> taskRepository.truncate().block())
+                .assertNext(change -> {
+                    assertThat(change.operation()).isEqualTo(DatabaseOperation.TRUNCATE);
+                    assertThat(change.id()).isNull();
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenListeningConnectionIsTerminated_shouldPublishResetAfterReconnecting() {
+
+        DatabaseChangeFeed databaseChangeFeed = listeningInstance.getBean(DatabaseChangeFeed.class);
+
+        StepVerifier.create(databaseChangeFeed.changes(DatabaseChangeFeed.USERS_TABLE).take(1))
+                .thenAwait(LISTEN_DELAY)
+                .then(() -> writingInstance.getBean(DatabaseClient.class)
+                        .sql("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query LIKE 'LISTEN %'")
+                        .fetch()
+                        .all()
+                        .blockLast())
+                .assertNext(change -> {
+                    assertThat(change.operation()).isEqualTo(DatabaseOperation.RESET);
+                    assertThat(change.id()).isNull();
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    private UserEntity saveUser(String username) {
+        return writingInstance.getBean(UserRepository.class).save(UserEntity.builder()
+                        .username(username)
+                        .password("pass1")
+                        .email(username + "@domain.com")
+                        .role(UserRole.USER)
+                        .build())
+                .block();
+    }
+
+    private TaskEntity saveTask(UserEntity userEntity) {
+        return writingInstance.getBean(TaskRepository.class).save(TaskEntity.builder()
+                        .title("testTask")
+                        .status(TaskStatus.READY_TO_START)
+                        .priority(TaskPriority.LOW)
+                        .createdOn(Instant.now())
+                        .createdBy(userEntity.getUserId())
+                        .assignedTo(userEntity.getUserId())
+                        .build())
+                .block();
+    }
+}
@@ -21,8 +21,8 @@ public class GraphQLQueries {
             """;
 
     public static final String UPDATE_TASK = """
-            mutation UPDATE_TASK($taskId: UUID!, $taskDTO: TaskDTO!) {
-              updateTask(taskId: $taskId, taskDTO: $taskDTO) {
+            mutation UPDATE_TASK($taskId: UUID!, $taskDTO: TaskDTO!, $expectedVersion: Int) {
+              updateTask(taskId: $taskId, taskDTO: $taskDTO, expectedVersion: $expectedVersion) {
                 taskId
                 title
                 description
@@ -34,13 +34,14 @@ public class GraphQLQueries {
                 createdBy
                 updatedOn
                 updatedBy
+                version
               }
             }
             """;
 
     public static final String UPDATE_USER_ASSIGNED_TO_TASK = """
-            mutation UPDATE_USER_ASSIGNED_TO_TASK($taskId: UUID!, $assignedToId: UUID!) {
-              updateUserAssignedToTask(taskId: $taskId, assignedToId: $assignedToId) {
+            mutation UPDATE_USER_ASSIGNED_TO_TASK($taskId: UUID!, $assignedToId: UUID!, $expectedVersion: Int) {
+              updateUserAssignedToTask(taskId: $taskId, assignedToId: $assignedToId, expectedVersion: $expectedVersion) {
                 taskId
                 title
                 description
@@ -52,6 +53,7 @@ public class GraphQLQueries {
                 createdBy
                 updatedOn
                 updatedBy
+                version
               }
             }
             """;
@@ -62,8 +64,20 @@ public class GraphQLQueries {
             }
             """;
     public static final String DELETE_ALL_TASKS = """
-            mutation DELETE_ALL_TASKS {
-              deleteAllTasks
+            mutation DELETE_ALL_TASKS($filter: TaskFilter) {
+              deleteAllTasks(filter: $filter)
+            }
+            """;
+    public static final String GET_TASK_DELETION_JOB = """
+            query TASK_DELETION_JOB($jobId: UUID!) {
+              taskDeletionJob(jobId: $jobId) {
+                jobId
+                status
+                deletedTasks
+                startedOn
+                finishedOn
+                error
+              }
             }
             """;
 
@@ -85,6 +99,34 @@ public class GraphQLQueries {
             }
             """;
 
+    public static final String GET_FILTERED_TASKS = """
+            query FILTERED_TASKS($filter: TaskFilter, $sort: [TaskSort!]) {
+              tasks(filter: $filter, sort: $sort) {
+                taskId
+                title
+                description
+                status
+                priority
+                targetEndDate
+                assignedTo
+                createdBy
+                createdOn
+                updatedBy
+                updatedOn
+              }
+            }
+            """;
+
+    public static final String GET_TASKS_OVERVIEW = """
+            query TASKS_OVERVIEW {
+              tasks {
+                taskId
+                title
+                status
+              }
+            }
+            """;
+
     public static final String GET_TASKS_ASSIGNED_TO = """
             query TASKS_ASSIGNED_TO($assignedToId: UUID!) {
               tasksAssignedTo(assignedToId: $assignedToId) {
@@ -103,6 +145,74 @@ public class GraphQLQueries {
             }
             """;
 
+    public static final String GET_TASKS_CONNECTION = """
+            query TASKS_CONNECTION($first: Int, $after: String) {
+              tasksConnection(first: $first, after: $after) {
+                edges {
+                  cursor
+                  node {
+                    taskId
+                    title
+                    description
+                    status
+                    priority
+                    targetEndDate
+                    assignedTo
+                    createdBy
+                    createdOn
+                    updatedBy
+                    updatedOn
+                  }
+                }
+                pageInfo {
+                  hasNextPage
+                  endCursor
+                }
+              }
+            }
+            """;
+
+    public static final String GET_TASKS_CONNECTION_OVERVIEW = """
+            query TASKS_CONNECTION_OVERVIEW($first: Int, $after: String) {
+              tasksConnection(first: $first, after: $after) {
+                edges {
+                  node {
+                    taskId
+                    title
+                    status
+                  }
+                }
+              }
+            }
+            """;
+
+    public static final String GET_TASKS_ASSIGNED_TO_CONNECTION = """
+            query TASKS_ASSIGNED_TO_CONNECTION($assignedToId: UUID!, $first: Int, $after: String) {
+              tasksAssignedToConnection(assignedToId: $assignedToId, first: $first, after: $after) {
+                edges {
+                  cursor
+                  node {
+                    taskId
+                    title
+                    description
+                    status
+                    priority
+                    targetEndDate
+                    assignedTo
+                    createdBy
+                    createdOn
+                    updatedBy
+                    updatedOn
+                  }
+                }
+                pageInfo {
+                  hasNextPage
+                  endCursor
+                }
+              }
+            }
+            """;
+
     public static final String REGISTER_USER = """
             mutation REGISTER_USER($userDTO: UserDTO!) {
               registerUser(userDTO: $userDTO) {
@@ -132,9 +242,171 @@ public class GraphQLQueries {
     public static final String FIND_ALL_USERS = """
             query USERS {
               users {
-                userId
-                username
-                email
+                edges {
+                  cursor
+                  node {
+                    userId
+                    username
+                    email
+                    role
+                  }
+                }
+                pageInfo {
+                  hasNextPage
+                  endCursor
+                }
+              }
+            }
+            """;
+
+    public static final String FIND_USERS_PAGE = """
+            query USERS_PAGE($first: Int, $after: String) {
+              users(first: $first, after: $after) {
+                edges {
+                  cursor
+                  node {
+                    userId
+                    username
+                    email
+                    role
+                  }
+                }
+                pageInfo {
+                  hasNextPage
+                  endCursor
+                }
+              }
+            }
+            """;
+
+    public static final String SUBSCRIBE_TO_TASK_CHANGES = """
+            subscription TASK_CHANGED($assignedTo: UUID) {
+              taskChanged(assignedTo: $assignedTo) {
+                type
+                taskId
+                task {
+                  taskId
+                  title
+                  status
+                  assignedTo
+                }
+              }
+            }
+            """;
+
+    public static final String SUBSCRIBE_TO_BOARD_CHANGES = """
+            subscription BOARD_CHANGED {
+              boardChanged {
+                type
+                taskId
+                task {
+                  taskId
+                  title
+                  status
+                  assignedTo
+                }
+              }
+            }
+            """;
+
+    public static final String GET_TASKS_CHANGED_SINCE = """
+            query TASKS_CHANGED_SINCE($since: DateTime, $first: Int, $cursor: String) {
+              tasksChangedSince(since: $since, first: $first, cursor: $cursor) {
+                changed {
+                  taskId
+                  title
+                  description
+                  status
+                  priority
+                  targetEndDate
+                  assignedTo
+                  createdBy
+                  createdOn
+                  updatedBy
+                  updatedOn
+                }
+                deleted {
+                  taskId
+                  deletedOn
+                }
+                resyncRequired
+                pageInfo {
+                  hasNextPage
+                  endCursor
+                }
+              }
+            }
+            """;
+
+    public static final String CREATE_TASKS = """
+            mutation CREATE_TASKS($taskDTOs: [TaskDTO!]!) {
+              createTasks(taskDTOs: $taskDTOs) {
+                taskId
+                task {
+                  taskId
+                  title
+                  description
+                  priority
+                  status
+                  targetEndDate
+                  assignedTo
+                  createdOn
+                  createdBy
+                  updatedOn
+                  updatedBy
+                }
+                error
+              }
+            }
+            """;
+
+    public static final String UPDATE_TASKS = """
+            mutation UPDATE_TASKS($taskUpdateDTOs: [TaskUpdateDTO!]!) {
+              updateTasks(taskUpdateDTOs: $taskUpdateDTOs) {
+                taskId
+                task {
+                  taskId
+                  title
+                  description
+                  priority
+                  status
+                  targetEndDate
+                  assignedTo
+                  createdOn
+                  createdBy
+                  updatedOn
+                  updatedBy
+                  version
+                }
+                error
+              }
+            }
+            """;
+
+    public static final String DELETE_TASKS = """
+            mutation DELETE_TASKS($taskIds: [UUID!]!) {
+              deleteTasks(taskIds: $taskIds) {
+                taskId
+                deleted
+              }
+            }
+            """;
+
+    public static final String PATCH_TASK = """
+            mutation PATCH_TASK($taskId: UUID!, $taskPatch: TaskPatch!, $expectedVersion: Int) {
+              patchTask(taskId: $taskId, taskPatch: $taskPatch, expectedVersion: $expectedVersion) {
+                taskId
+                title
+                description
+                priority
+                status
+                targetEndDate
+                assignedTo
+                createdOn
+                createdBy
+                updatedOn
+                updatedBy
+                version
               }
             }
             """;
@@ -2,11 +2,15 @@ package com.nowakartur97.personalkanbanboardbackend.integration;
 
 import com.nowakartur97.personalkanbanboardbackend.auth.JWTConfigurationProperties;
 import com.nowakartur97.personalkanbanboardbackend.auth.JWTUtil;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskChangeWatermarkEntity;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskChangeWatermarkRepository;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskDeletionJobRepository;
 import com.nowakartur97.personalkanbanboardbackend.task.TaskEntity;
 import com.nowakartur97.personalkanbanboardbackend.task.TaskPriority;
 import com.nowakartur97.personalkanbanboardbackend.task.TaskRepository;
 import com.nowakartur97.personalkanbanboardbackend.task.TaskResponse;
 import com.nowakartur97.personalkanbanboardbackend.task.TaskStatus;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskTombstoneRepository;
 import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
 import com.nowakartur97.personalkanbanboardbackend.user.UserRepository;
 import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
@@ -38,8 +42,14 @@ public class IntegrationTest {
     @Autowired
     protected TaskRepository taskRepository;
     @Autowired
+    protected TaskTombstoneRepository taskTombstoneRepository;
+    @Autowired
     protected UserRepository userRepository;
     @Autowired
+    protected TaskChangeWatermarkRepository taskChangeWatermarkRepository;
+    @Autowired
+    protected TaskDeletionJobRepository taskDeletionJobRepository;
+    @Autowired
     protected HttpGraphQlTester httpGraphQlTester;
     @Autowired
     protected JWTUtil jwtUtil;
@@ -57,7 +67,14 @@ public class IntegrationTest {
     @AfterEach
     public void cleanUpTables() {
         taskRepository.deleteAll().block();
+        taskTombstoneRepository.deleteAll().block();
+        taskDeletionJobRepository.deleteAll().block();
         userRepository.deleteAll().block();
+        // watermarks only move forward in the application, they are moved back so that tests syncing changes start over
+        taskChangeWatermarkRepository.saveAll(List.of(
+                        new TaskChangeWatermarkEntity(TaskChangeWatermarkEntity.TOMBSTONES_PRUNED, Instant.EPOCH),
+                        new TaskChangeWatermarkEntity(TaskChangeWatermarkEntity.BOARD_RESET, Instant.EPOCH)))
+                .blockLast();
     }
 
     // TODO: Setup testcontainers
@@ -114,7 +131,7 @@ public class IntegrationTest {
     }
 
     protected void addAuthorizationHeader(HttpHeaders headers, UserEntity userEntity) {
-        String token = jwtUtil.generateToken(userEntity.getUsername(), userEntity.getRole().name());
+        String token = jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name());
         String authHeader = jwtConfigurationProperties.getAuthorizationType() + " " + token;
         headers.add(jwtConfigurationProperties.getAuthorizationHeader(), authHeader);
     }
@@ -1,15 +1,30 @@
 package com.nowakartur97.personalkanbanboardbackend.integration;
 
+import com.nowakartur97.personalkanbanboardbackend.PersonalKanbanBoardBackendApplication;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
 
+// The container is shared by all the test classes of a run, so it is started by each of them and never stopped,
+// Testcontainers removes it when the JVM exits
 public interface PostgresStarter {
 
     String POSTGRES_DOCKER_IMAGE = "postgres:14.1-alpine";
     PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer(DockerImageName.parse(POSTGRES_DOCKER_IMAGE));
 
+    // Users named user1 to userN with the email userN@domain.com, formatted with their count and encoded password
+    String SEED_USERS = """
+            INSERT INTO personal_kanban_board.users (username, password, email, role)
+            SELECT 'user' || i, '%2$s', 'user' || i || '@domain.com', 'USER'
+            FROM generate_series(1, %1$d) AS i;
+            """;
+
     @DynamicPropertySource
     static void properties(DynamicPropertyRegistry registry) {
         registry.add("spring.r2dbc.username", postgresContainer::getUsername);
@@ -20,4 +35,44 @@ public interface PostgresStarter {
         registry.add("spring.flyway.password", postgresContainer::getPassword);
         registry.add("spring.flyway.url", postgresContainer::getJdbcUrl);
     }
+
+    // Instance of the application running against the container on random ports, for tests needing several instances
+    // or a customized one. Further properties and initializers can be added before running it
+    static SpringApplicationBuilder applicationBuilder() {
+        postgresContainer.start();
+        return new SpringApplicationBuilder(PersonalKanbanBoardBackendApplication.class)
+                .profiles("test-container")
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.r2dbc.username=" + postgresContainer.getUsername(),
+                        "spring.r2dbc.password=" + postgresContainer.getPassword(),
+                        "spring.r2dbc.url=" + postgresContainer.getJdbcUrl().replace("jdbc", "r2dbc"),
+                        "spring.flyway.user=" + postgresContainer.getUsername(),
+                        "spring.flyway.password=" + postgresContainer.getPassword(),
+                        "spring.flyway.url=" + postgresContainer.getJdbcUrl());
+    }
+
+    static ConfigurableApplicationContext startApplication() {
+        return applicationBuilder().run();
+    }
+
+    // Triggers are disabled while seeding, so that the change feed is not flooded with notifications,
+    // the statistics are refreshed afterwards so that the seeded volumes are known to the planner
+    static void seed(ConfigurableApplicationContext instance, String sql) {
+        execute(instance, "SET session_replication_role = replica;\n" + sql + "SET session_replication_role = DEFAULT;\nANALYZE;");
+    }
+
+    // The container is shared with the other test classes, so the classes seeding it remove their rows when they are done
+    static void cleanUp(ConfigurableApplicationContext instance) {
+        execute(instance, "TRUNCATE personal_kanban_board.tasks, personal_kanban_board.task_tombstones, personal_kanban_board.users;");
+    }
+
+    static void execute(ConfigurableApplicationContext instance, String sql) {
+        Flux.usingWhen(instance.getBean(ConnectionFactory.class).create(),
+                        connection -> Flux.from(connection.createStatement(sql).execute())
+                                .flatMap(result -> result.getRowsUpdated()),
+                        Connection::close)
+                .blockLast();
+    }
 }
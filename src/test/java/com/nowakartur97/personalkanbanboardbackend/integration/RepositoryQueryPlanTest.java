@@ -0,0 +1,211 @@
+package com.nowakartur97.personalkanbanboardbackend.integration;
+
+import com.nowakartur97.personalkanbanboardbackend.task.TaskEntity;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskRepository;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskTombstoneEntity;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskTombstoneRepository;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRepository;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.BoundValue;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every repository query is executed against a seeded database, then explained with the same bind values
+@Tag("test-container")
+public class RepositoryQueryPlanTest implements PostgresStarter {
+
+    private final static int USERS_COUNT = 20000;
+    private final static int TASKS_COUNT = 100000;
+    private final static int PAGE_SIZE = 20;
+
+    private final static String SEED_TASKS_AND_TOMBSTONES = """
+            INSERT INTO personal_kanban_board.tasks
+                (title, status_code, priority_code, target_end_date, assigned_to, created_by, created_on, updated_by, updated_on, version)
+            SELECT 'task' || i, 1 + i %% 3, 1 + i %% 3, current_date + i %% 30,
+                   users.ids[1 + i %% %1$d], users.ids[1 + (i * 7) %% %1$d], now() - i * interval '1 minute',
+                   CASE WHEN i %% 2 = 0 THEN users.ids[1 + (i * 13) %% %1$d] END,
+                   CASE WHEN i %% 2 = 0 THEN now() - i * interval '1 second' END,
+                   0
+            FROM generate_series(1, %2$d) AS i,
+                 (SELECT array_agg(user_id) AS ids FROM personal_kanban_board.users) AS users;
+            INSERT INTO personal_kanban_board.task_tombstones (task_id, deleted_on)
+            SELECT gen_random_uuid(), now() - i * interval '1 minute'
+            FROM generate_series(1, %2$d) AS i;
+            """;
+
+    private static ConfigurableApplicationContext instance;
+    private static QueryRecorder queryRecorder;
+
+    private TaskRepository taskRepository;
+    private TaskTombstoneRepository taskTombstoneRepository;
+    private UserRepository userRepository;
+
+    @BeforeAll
+    public static void startInstance() {
+        queryRecorder = new QueryRecorder();
+        instance = PostgresStarter.applicationBuilder()
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(queryRecorder))
+                .run();
+        PostgresStarter.seed(instance, SEED_USERS.formatted(USERS_COUNT, "pass1")
+                + SEED_TASKS_AND_TOMBSTONES.formatted(USERS_COUNT, TASKS_COUNT));
+    }
+
+    @AfterAll
+    public static void stopInstance() {
+        PostgresStarter.cleanUp(instance);
+        instance.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        taskRepository = instance.getBean(TaskRepository.class);
+        taskTombstoneRepository = instance.getBean(TaskTombstoneRepository.class);
+        userRepository = instance.getBean(UserRepository.class);
+        queryRecorder.reset();
+    }
+
+    @Test
+    public void whenQueryingTasks_shouldReadThemThroughIndexes() {
+
+        TaskEntity taskEntity = taskRepository.findFirstPage(1).blockFirst();
+        Instant since = Instant.now().minus(1, ChronoUnit.HOURS);
+        queryRecorder.reset();
+
+        taskRepository.findById(taskEntity.getTaskId()).block();
+        taskRepository.findAllByAssignedTo(taskEntity.getAssignedTo()).collectList().block();
+        taskRepository.findFirstPage(PAGE_SIZE).collectList().block();
+        taskRepository.findPageAfter(taskEntity.getCreatedOn(), taskEntity.getTaskId(), PAGE_SIZE).collectList().block();
+        taskRepository.findFirstPageByAssignedTo(taskEntity.getAssignedTo(), PAGE_SIZE).collectList().block();
+        taskRepository.findPageByAssignedToAfter(taskEntity.getAssignedTo(), taskEntity.getCreatedOn(), taskEntity.getTaskId(), PAGE_SIZE)
+                .collectList().block();
+        taskRepository.findFirstPageChangedSince(since, Instant.now(), PAGE_SIZE).collectList().block();
+        taskRepository.findPageChangedAfter(since, taskEntity.getTaskId(), Instant.now(), PAGE_SIZE).collectList().block();
+        taskRepository.findExistingTaskIds(List.of(taskEntity.getTaskId(), UUID.randomUUID())).collectList().block();
+        taskRepository.deleteAllByTaskIds(List.of(UUID.randomUUID())).block();
+
+        assertNoSequentialScans(10);
+    }
+
+    @Test
+    public void whenQueryingDeletedTasks_shouldReadThemThroughIndexes() {
+
+        TaskTombstoneEntity taskTombstoneEntity = taskTombstoneRepository.findFirstPageDeletedSince(Instant.EPOCH, Instant.now(), 1).blockFirst();
+        queryRecorder.reset();
+
+        taskTombstoneRepository.findFirstPageDeletedSince(Instant.now().minus(1, ChronoUnit.HOURS), Instant.now(), PAGE_SIZE).collectList().block();
+        taskTombstoneRepository.findPageDeletedAfter(taskTombstoneEntity.getDeletedOn(), taskTombstoneEntity.getTaskId(), Instant.now(), PAGE_SIZE)
+                .collectList().block();
+        taskTombstoneRepository.deleteAllDeletedBefore(Instant.EPOCH).block();
+
+        assertNoSequentialScans(3);
+    }
+
+    @Test
+    public void whenQueryingUsers_shouldReadThemThroughIndexes() {
+
+        UserEntity userEntity = userRepository.findByUsername("user1").block();
+        queryRecorder.reset();
+
+        userRepository.findById(userEntity.getUserId()).block();
+        userRepository.findByUsername(userEntity.getUsername()).block();
+        userRepository.findByUsernameOrEmail("USER1", "USER1").block();
+        userRepository.existsByUsernameOrEmail("user2", "user3@domain.com").block();
+        userRepository.findFirstPage(PAGE_SIZE).collectList().block();
+        userRepository.findPageAfter(userEntity.getUsername(), PAGE_SIZE).collectList().block();
+        userRepository.findAllById(List.of(userEntity.getUserId(), UUID.randomUUID())).collectList().block();
+
+        assertNoSequentialScans(7);
+    }
+
+    private void assertNoSequentialScans(int expectedQueries) {
+        List<RecordedQuery> recordedQueries = queryRecorder.getQueries();
+        assertThat(recordedQueries).hasSizeGreaterThanOrEqualTo(expectedQueries);
+        ConnectionFactory connectionFactory = instance.getBean(ConnectionFactory.class);
+        for (RecordedQuery recordedQuery : recordedQueries) {
+            String plan = String.join("\n", explain(connectionFactory, recordedQuery).collectList().block());
+            assertThat(plan)
+                    .as("Plan of query: %s", recordedQuery.query())
+                    .doesNotContain("Seq Scan");
+        }
+    }
+
+    private static Flux<String> explain(ConnectionFactory connectionFactory, RecordedQuery recordedQuery) {
+        return Flux.usingWhen(connectionFactory.create(),
+                connection -> {
+                    Statement statement = connection.createStatement("EXPLAIN " + recordedQuery.query());
+                    if (recordedQuery.bindings() != null) {
+                        recordedQuery.bindings().getIndexBindings()
+                                .forEach(binding -> bind(statement, (Integer) binding.getKey(), binding.getBoundValue()));
+                    }
+                    return Flux.from(statement.execute())
+                            .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, String.class)));
+                },
+                Connection::close);
+    }
+
+    private static void bind(Statement statement, int index, BoundValue boundValue) {
+        if (boundValue.isNull()) {
+            statement.bindNull(index, boundValue.getNullType());
+        } else {
+            statement.bind(index, boundValue.getValue());
+        }
+    }
+
+    private record RecordedQuery(String query, Bindings bindings) {
+    }
+
+    // Records the queries executed through the application connection factory, except for the explained ones
+    private static class QueryRecorder implements BeanPostProcessor, ProxyExecutionListener {
+
+        private final List<RecordedQuery> queries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof ConnectionFactory connectionFactory) {
+                return ProxyConnectionFactory.builder(connectionFactory)
+                        .listener(this)
+                        .build();
+            }
+            return bean;
+        }
+
+        @Override
+        public void beforeQuery(QueryExecutionInfo queryExecutionInfo) {
+            queryExecutionInfo.getQueries().forEach(queryInfo -> {
+                if (!queryInfo.getQuery().startsWith("EXPLAIN")) {
+                    List<Bindings> bindingsList = queryInfo.getBindingsList();
+                    queries.add(new RecordedQuery(queryInfo.getQuery(), bindingsList.isEmpty() ? null : bindingsList.getFirst()));
+                }
+            });
+        }
+
+        List<RecordedQuery> getQueries() {
+            return List.copyOf(queries);
+        }
+
+        void reset() {
+            queries.clear();
+        }
+    }
+}
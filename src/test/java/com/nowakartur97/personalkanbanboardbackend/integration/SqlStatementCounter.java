@@ -0,0 +1,49 @@
+package com.nowakartur97.personalkanbanboardbackend.integration;
+
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Records every SQL statement executed through the application's R2DBC connection factory
+public class SqlStatementCounter implements BeanPostProcessor, ProxyExecutionListener {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConnectionFactory connectionFactory) {
+            return ProxyConnectionFactory.builder(connectionFactory)
+                    .listener(this)
+                    .build();
+        }
+        return bean;
+    }
+
+    @Override
+    public void beforeQuery(QueryExecutionInfo queryExecutionInfo) {
+        queryExecutionInfo.getQueries()
+                .forEach(queryInfo -> statements.add(queryInfo.getQuery()));
+    }
+
+    public long countSelectsFrom(String table) {
+        return getSelectsFrom(table).size();
+    }
+
+    // Statements are lower cased and stripped of identifier quotes
+    public List<String> getSelectsFrom(String table) {
+        return statements.stream()
+                .map(statement -> statement.replace("\"", "").toLowerCase())
+                .filter(statement -> statement.startsWith("select"))
+                .filter(statement -> statement.contains("from " + table.toLowerCase()))
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+}
@@ -0,0 +1,13 @@
+package com.nowakartur97.personalkanbanboardbackend.integration;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class SqlStatementCounterTestConfiguration {
+
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+}
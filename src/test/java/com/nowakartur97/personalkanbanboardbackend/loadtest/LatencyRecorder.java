@@ -0,0 +1,50 @@
+package com.nowakartur97.personalkanbanboardbackend.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Latencies of one operation, kept whole so that percentiles are exact instead of bucketed
+class LatencyRecorder {
+
+    private final String operation;
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong errors = new AtomicLong();
+
+    LatencyRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    void record(long latencyInNanos, boolean failed) {
+        latencies.add(latencyInNanos);
+        if (failed) {
+            errors.incrementAndGet();
+        }
+    }
+
+    void reset() {
+        latencies.clear();
+        errors.set(0);
+    }
+
+    OperationReport report(Duration duration) {
+        long[] sortedLatencies = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new OperationReport(
+                operation,
+                sortedLatencies.length,
+                errors.get(),
+                sortedLatencies.length * 1000.0 / duration.toMillis(),
+                percentileInMillis(sortedLatencies, 0.5),
+                percentileInMillis(sortedLatencies, 0.95),
+                percentileInMillis(sortedLatencies, 0.99),
+                sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentileInMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.nowakartur97.personalkanbanboardbackend.loadtest;
+
+import com.nowakartur97.personalkanbanboardbackend.task.TaskDTO;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskPriority;
+import com.nowakartur97.personalkanbanboardbackend.task.TaskStatus;
+import com.nowakartur97.personalkanbanboardbackend.user.AuthenticationRequest;
+import org.springframework.graphql.client.ClientGraphQlResponse;
+import org.springframework.graphql.client.HttpGraphQlClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.AUTHENTICATE_USER;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.CREATE_TASK;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_FILTERED_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_ASSIGNED_TO;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.UPDATE_TASK;
+
+// Concurrent virtual clients, each logged in as one of the seeded users and issuing operations back to back until the deadline
+class LoadDriver {
+
+    private final HttpGraphQlClient graphQlClient;
+    private final String password;
+    private final int users;
+    private final Map<Operation, LatencyRecorder> latencyRecorders = new EnumMap<>(Operation.class);
+
+    LoadDriver(String baseUrl, String password, int users) {
+        this.graphQlClient = HttpGraphQlClient.builder(WebClient.builder()
+                        .baseUrl(baseUrl + "/graphql")
+                        .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1)))
+                .build();
+        this.password = password;
+        this.users = users;
+        for (Operation operation : Operation.values()) {
+            latencyRecorders.put(operation, new LatencyRecorder(operation.name()));
+        }
+    }
+
+    List<OperationReport> run(int clients, Duration duration) {
+        latencyRecorders.values().forEach(LatencyRecorder::reset);
+        long deadline = System.nanoTime() + duration.toNanos();
+        Flux.range(0, clients)
+                .flatMap(clientIndex -> runClient(clientIndex, deadline), clients)
+                .blockLast();
+        return latencyRecorders.values().stream()
+                .map(latencyRecorder -> latencyRecorder.report(duration))
+                .toList();
+    }
+
+    private Mono<Void> runClient(int clientIndex, long deadline) {
+        String username = "user" + (clientIndex % users + 1);
+        return login(username)
+                .map(response -> new VirtualClient(
+                        username,
+                        response.field("loginUser.userId").toEntity(UUID.class),
+                        graphQlClient.mutate()
+                                .header("Authorization", "Bearer " + response.field("loginUser.token").toEntity(String.class))
+                                .build()))
+                .flatMap(virtualClient -> Mono.defer(() -> execute(virtualClient, Operation.next()))
+                        .repeat(() -> System.nanoTime() < deadline)
+                        .then());
+    }
+
+    private Mono<ClientGraphQlResponse> execute(VirtualClient virtualClient, Operation operation) {
+        return switch (operation) {
+            case LOGIN -> measure(operation, login(virtualClient.username()));
+            case TASKS -> measure(operation, virtualClient.graphQlClient()
+                    .document(GET_FILTERED_TASKS)
+                    .variable("filter", Map.of("createdById", virtualClient.userId()))
+                    .execute());
+            case TASKS_ASSIGNED_TO -> measure(operation, virtualClient.graphQlClient()
+                    .document(GET_TASKS_ASSIGNED_TO)
+                    .variable("assignedToId", virtualClient.userId())
+                    .execute());
+            case CREATE_TASK -> createTask(virtualClient);
+            case UPDATE_TASK -> virtualClient.createdTaskIds().isEmpty()
+                    ? createTask(virtualClient)
+                    : measure(operation, virtualClient.graphQlClient()
+                    .document(UPDATE_TASK)
+                    .variable("taskId", virtualClient.nextCreatedTaskId())
+                    .variable("taskDTO", newTaskDTO(virtualClient.userId()))
+                    .execute());
+        };
+    }
+
+    private Mono<ClientGraphQlResponse> login(String username) {
+        return graphQlClient
+                .document(AUTHENTICATE_USER)
+                .variable("authenticationRequest", new AuthenticationRequest(username, password))
+                .execute();
+    }
+
+    private Mono<ClientGraphQlResponse> createTask(VirtualClient virtualClient) {
+        return measure(Operation.CREATE_TASK, virtualClient.graphQlClient()
+                .document(CREATE_TASK)
+                .variable("taskDTO", newTaskDTO(virtualClient.userId()))
+                .execute())
+                .doOnNext(response -> {
+                    if (response.isValid() && response.getErrors().isEmpty()) {
+                        virtualClient.createdTaskIds().add(response.field("createTask.taskId").toEntity(UUID.class));
+                    }
+                });
+    }
+
+    private Mono<ClientGraphQlResponse> measure(Operation operation, Mono<ClientGraphQlResponse> request) {
+        return Mono.defer(() -> {
+            LatencyRecorder latencyRecorder = latencyRecorders.get(operation);
+            long startTime = System.nanoTime();
+            return request
+                    .doOnNext(response -> latencyRecorder.record(System.nanoTime() - startTime,
+                            !response.isValid() || !response.getErrors().isEmpty()))
+                    .onErrorResume(ex -> {
+                        latencyRecorder.record(System.nanoTime() - startTime, true);
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    private static TaskDTO newTaskDTO(UUID assignedTo) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new TaskDTO(
+                "task" + random.nextInt(),
+                "description",
+                TaskStatus.values()[random.nextInt(TaskStatus.values().length)],
+                TaskPriority.values()[random.nextInt(TaskPriority.values().length)],
+                LocalDate.now().plusDays(random.nextInt(1, 30)),
+                assignedTo);
+    }
+
+    // Updates go only to the tasks created by the same client, so that they do not conflict with each other
+    private record VirtualClient(String username, UUID userId, HttpGraphQlClient graphQlClient, List<UUID> createdTaskIds) {
+
+        VirtualClient(String username, UUID userId, HttpGraphQlClient graphQlClient) {
+            this(username, userId, graphQlClient, new ArrayList<>());
+        }
+
+        UUID nextCreatedTaskId() {
+            return createdTaskIds.get(ThreadLocalRandom.current().nextInt(createdTaskIds.size()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.nowakartur97.personalkanbanboardbackend.loadtest;
+
+import java.time.Duration;
+
+// Read from system properties, so that volumes and limits can be changed with -D without touching the code
+record LoadTestSettings(int users,
+                        int tasks,
+                        int clients,
+                        Duration warmUp,
+                        Duration duration,
+                        double maxP95Millis,
+                        double maxErrorRate,
+                        String reportFile
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("load-test.users", 1000),
+                Integer.getInteger("load-test.tasks", 20000),
+                Integer.getInteger("load-test.clients", 32),
+                Duration.ofSeconds(Long.getLong("load-test.warm-up-seconds", 15)),
+                Duration.ofSeconds(Long.getLong("load-test.duration-seconds", 60)),
+                Double.parseDouble(System.getProperty("load-test.max-p95-millis", "500")),
+                Double.parseDouble(System.getProperty("load-test.max-error-rate", "0")),
+                System.getProperty("load-test.report-file", "target/load-test-report.json"));
+    }
+}
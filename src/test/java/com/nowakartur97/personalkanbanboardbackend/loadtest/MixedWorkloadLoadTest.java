@@ -0,0 +1,93 @@
+package com.nowakartur97.personalkanbanboardbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nowakartur97.personalkanbanboardbackend.integration.PostgresStarter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Run with: ./mvnw -P load-test test -Dtest=MixedWorkloadLoadTest, volumes and limits can be overridden with -Dload-test.*
+@Slf4j
+@Tag("load-test")
+public class MixedWorkloadLoadTest implements PostgresStarter {
+
+    private final static String PASSWORD = "pass1";
+
+    private final static String SEED_TASKS = """
+            INSERT INTO personal_kanban_board.tasks
+                (title, status_code, priority_code, target_end_date, assigned_to, created_by, created_on, version)
+            SELECT 'task' || i, 1 + i %% 3, 1 + i %% 3, current_date + i %% 30,
+                   users.ids[1 + i %% %1$d], users.ids[1 + (i * 7) %% %1$d], now() - i * interval '1 minute', 0
+            FROM generate_series(1, %2$d) AS i,
+                 (SELECT array_agg(user_id) AS ids FROM personal_kanban_board.users) AS users;
+            """;
+
+    private static LoadTestSettings settings;
+    private static ConfigurableApplicationContext instance;
+
+    @BeforeAll
+    public static void startInstance() {
+        settings = LoadTestSettings.fromSystemProperties();
+        instance = PostgresStarter.applicationBuilder()
+                .properties(
+                        "logging.level.com.nowakartur97.personalkanbanboardbackend.task=WARN",
+                        "logging.level.com.nowakartur97.personalkanbanboardbackend.user=WARN")
+                .run();
+        String encodedPassword = instance.getBean(BCryptPasswordEncoder.class).encode(PASSWORD);
+        PostgresStarter.seed(instance, SEED_USERS.formatted(settings.users(), encodedPassword)
+                + SEED_TASKS.formatted(settings.users(), settings.tasks()));
+    }
+
+    @AfterAll
+    public static void stopInstance() {
+        PostgresStarter.cleanUp(instance);
+        instance.close();
+    }
+
+    @Test
+    public void whenRunningMixedWorkload_shouldKeepLatencyAndErrorRateWithinLimits() throws IOException {
+
+        LoadDriver loadDriver = new LoadDriver("http://localhost:" + instance.getEnvironment().getProperty("local.server.port"),
+                PASSWORD, settings.users());
+
+        loadDriver.run(settings.clients(), settings.warmUp());
+        List<OperationReport> reports = loadDriver.run(settings.clients(), settings.duration());
+
+        writeReport(reports);
+        assertThat(reports).allSatisfy(report -> {
+            assertThat(report.requests()).as("Requests of %s", report.operation()).isPositive();
+            assertThat(report.errorRate()).as("Error rate of %s", report.operation()).isLessThanOrEqualTo(settings.maxErrorRate());
+            assertThat(report.p95Millis()).as("95th percentile latency of %s", report.operation()).isLessThanOrEqualTo(settings.maxP95Millis());
+        });
+    }
+
+    private static void writeReport(List<OperationReport> reports) throws IOException {
+        StringBuilder table = new StringBuilder(String.format("%n%-18s %9s %7s %10s %9s %9s %9s %9s",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        reports.forEach(report -> table.append(String.format("%n%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f",
+                report.operation(), report.requests(), report.errors(), report.throughputPerSecond(),
+                report.p50Millis(), report.p95Millis(), report.p99Millis(), report.maxMillis())));
+        log.info("Mixed workload of {} clients during {} against {} users and {} tasks:{}",
+                settings.clients(), settings.duration(), settings.users(), settings.tasks(), table);
+
+        File reportFile = new File(settings.reportFile());
+        reportFile.getParentFile().mkdirs();
+        new ObjectMapper().findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportFile, new LoadTestReport(settings, reports));
+    }
+
+    private record LoadTestReport(LoadTestSettings settings, List<OperationReport> operations) {
+    }
+}
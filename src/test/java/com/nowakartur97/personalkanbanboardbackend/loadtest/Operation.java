@@ -0,0 +1,32 @@
+package com.nowakartur97.personalkanbanboardbackend.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Operations of the mixed workload, each drawn with a probability proportional to its weight
+enum Operation {
+
+    LOGIN(5),
+    TASKS(5),
+    TASKS_ASSIGNED_TO(50),
+    CREATE_TASK(20),
+    UPDATE_TASK(20);
+
+    private final static int TOTAL_WEIGHT = 100;
+
+    private final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    static Operation next() {
+        int draw = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+        for (Operation operation : values()) {
+            draw -= operation.weight;
+            if (draw < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights of operations do not sum up to " + TOTAL_WEIGHT);
+    }
+}
@@ -0,0 +1,16 @@
+package com.nowakartur97.personalkanbanboardbackend.loadtest;
+
+public record OperationReport(String operation,
+                              long requests,
+                              long errors,
+                              double throughputPerSecond,
+                              double p50Millis,
+                              double p95Millis,
+                              double p99Millis,
+                              double maxMillis
+) {
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+}
@@ -0,0 +1,122 @@
+package com.nowakartur97.personalkanbanboardbackend.metrics;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASK_DELETION_JOB;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@AutoConfigureObservability(tracing = false)
+public class GraphQLMetricsInstrumentationTest extends IntegrationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private WebTestClient webTestClient;
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    public void whenGetAllTasks_shouldRecordOperationFieldAndRepositoryMetrics() {
+
+        UserEntity userEntity = createUser();
+        createTask(userEntity.getUserId());
+        createTask(userEntity.getUserId());
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS)
+                .execute()
+                .errors()
+                .verify();
+
+        assertThat(meterRegistry.get(GraphQLMetricsInstrumentation.OPERATION_METRIC_NAME)
+                .tag("operationType", "query")
+                .tag("outcome", "SUCCESS")
+                .timer()
+                .count()).isPositive();
+        assertThat(meterRegistry.get(GraphQLMetricsInstrumentation.FIELD_METRIC_NAME)
+                .tag("parent", "Query")
+                .tag("field", "tasks")
+                .timer()
+                .count()).isPositive();
+        assertThat(meterRegistry.find(GraphQLMetricsInstrumentation.OPERATION_METRIC_NAME)
+                .tagKeys("operation")
+                .timers()).isEmpty();
+        assertThat(meterRegistry.get(GraphQLMetricsInstrumentation.FIELD_RESULT_SIZE_METRIC_NAME)
+                .tag("parent", "Query")
+                .tag("field", "tasks")
+                .summary()
+                .max()).isEqualTo(2);
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "TaskRepository")
+                .timers()).isNotEmpty();
+    }
+
+    @Test
+    public void whenGettingNotExistingResource_shouldCountErrorByType() {
+
+        UserEntity admin = createUser("admin", "admin@domain.com", UserRole.ADMIN);
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, admin))
+                .build()
+                .document(GET_TASK_DELETION_JOB)
+                .variable("jobId", UUID.randomUUID())
+                .execute()
+                .errors()
+                .satisfy(responseErrors -> assertThat(responseErrors).hasSize(1));
+
+        assertThat(meterRegistry.get(GraphQLMetricsInstrumentation.ERRORS_METRIC_NAME)
+                .tag("operationType", "query")
+                .tag("errorType", "NOT_FOUND")
+                .counter()
+                .count()).isPositive();
+    }
+
+    @Test
+    public void whenScrapingPrometheusEndpointOnManagementPort_shouldExposeGraphQLMetricsWithoutToken() {
+
+        UserEntity userEntity = createUser();
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS)
+                .execute()
+                .errors()
+                .verify();
+
+        WebTestClient.bindToServer()
+                .baseUrl("http://127.0.0.1:" + managementPort)
+                .build()
+                .get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertThat(body).contains("graphql_field_seconds_bucket"));
+    }
+
+    @Test
+    public void whenScrapingPrometheusEndpointOnApplicationPort_shouldNotFindIt() {
+
+        webTestClient.get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
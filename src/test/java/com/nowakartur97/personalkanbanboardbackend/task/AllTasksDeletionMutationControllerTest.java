@@ -4,14 +4,31 @@ import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
 import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
 import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.graphql.ResponseError;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
 import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.DELETE_ALL_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASK_DELETION_JOB;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 public class AllTasksDeletionMutationControllerTest extends IntegrationTest {
 
     private final static String DELETE_ALL_TASKS_PATH = "deleteAllTasks";
+    private final static String TASK_DELETION_JOB_PATH = "taskDeletionJob";
+    private final static int MAX_JOB_STATUS_CHECKS = 50;
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private TaskDeletionJobStore taskDeletionJobStore;
+    @Autowired
+    private R2dbcEntityTemplate r2dbcEntityTemplate;
 
     @Test
     public void whenDeleteAllTasksByAdmin_shouldReturnEmptyResponse() {
@@ -26,6 +43,113 @@ public class AllTasksDeletionMutationControllerTest extends IntegrationTest {
         assertThat(taskRepository.count().block()).isZero();
     }
 
+    @Test
+    public void whenDeleteAllTasksByAdmin_shouldCompleteDeletionJobAndResetBoard() {
+
+        UserEntity admin = createUser("admin", "admin@domain.com", UserRole.ADMIN);
+        TaskEntity deletedTask = createTask(admin.getUserId());
+        createTask(admin.getUserId());
+        taskService.deleteById(deletedTask.getTaskId()).block();
+        Instant resetAfter = Instant.now();
+
+        UUID jobId = sendDeleteAllTasksRequest(admin);
+
+        TaskDeletionJob taskDeletionJob = sendTaskDeletionJobRequest(admin, jobId);
+        assertThat(taskDeletionJob.status()).isEqualTo(TaskDeletionJobStatus.COMPLETED);
+        assertThat(taskDeletionJob.deletedTasks()).isOne();
+        assertThat(taskDeletionJob.finishedOn()).isNotNull();
+        assertThat(taskTombstoneRepository.count().block()).isZero();
+        assertThat(taskChangeWatermarkRepository.findById(TaskChangeWatermarkEntity.BOARD_RESET).block().getWatermark())
+                .isAfterOrEqualTo(resetAfter);
+    }
+
+    @Test
+    public void whenDeleteAllTasksByFilter_shouldDeleteOnlyMatchingTasksInChunks() {
+
+        UserEntity admin = createUser("admin", "admin@domain.com", UserRole.ADMIN);
+        TaskEntity adminTask = createTask(admin.getUserId());
+        UserEntity userEntity = createUser("developer", "developer@domain.com");
+        for (int i = 0; i < 5; i++) {
+            createTask(userEntity.getUserId());
+        }
+
+        UUID jobId = sendDeleteAllTasksRequest(admin, Map.of("createdById", userEntity.getUserId()));
+
+        TaskDeletionJob taskDeletionJob = awaitTaskDeletionJob(admin, jobId);
+        assertThat(taskDeletionJob.status()).isEqualTo(TaskDeletionJobStatus.COMPLETED);
+        assertThat(taskDeletionJob.deletedTasks()).isEqualTo(5);
+        assertThat(taskRepository.count().block()).isOne();
+        assertThat(taskRepository.existsById(adminTask.getTaskId()).block()).isTrue();
+        assertThat(taskTombstoneRepository.count().block()).isEqualTo(5);
+    }
+
+    @Test
+    public void whenGetNotExistingTaskDeletionJob_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity admin = createUser("admin", "admin@domain.com", UserRole.ADMIN);
+        UUID jobId = UUID.randomUUID();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, admin))
+                .build()
+                .document(GET_TASK_DELETION_JOB)
+                .variable("jobId", jobId)
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertNotFoundErrorResponse(responseError, TASK_DELETION_JOB_PATH, "Task deletion job with jobId: '" + jobId + "' not found.");
+                        });
+    }
+
+    @Test
+    public void whenGetTaskDeletionJobWithTimedOutHeartbeat_shouldReturnFailedJob() {
+
+        UserEntity admin = createUser("admin", "admin@domain.com", UserRole.ADMIN);
+        Instant now = Instant.now();
+        TaskDeletionJobEntity interruptedJob = createTaskDeletionJob(TaskDeletionJobStatus.RUNNING, now.minus(Duration.ofHours(1)), null);
+        TaskDeletionJobEntity runningJob = createTaskDeletionJob(TaskDeletionJobStatus.RUNNING, now, null);
+
+        assertThat(taskDeletionJobStore.failTimedOutJobs().block()).isOne();
+
+        TaskDeletionJob taskDeletionJob = sendTaskDeletionJobRequest(admin, interruptedJob.getJobId());
+        assertThat(taskDeletionJob.status()).isEqualTo(TaskDeletionJobStatus.FAILED);
+        assertThat(taskDeletionJob.deletedTasks()).isEqualTo(interruptedJob.getDeletedTasks());
+        assertThat(taskDeletionJob.finishedOn()).isNotNull();
+        assertThat(taskDeletionJob.error()).isNotNull();
+        assertThat(sendTaskDeletionJobRequest(admin, runningJob.getJobId()).status()).isEqualTo(TaskDeletionJobStatus.RUNNING);
+    }
+
+    @Test
+    public void whenGetExpiredTaskDeletionJob_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity admin = createUser("admin", "admin@domain.com", UserRole.ADMIN);
+        Instant finishedOn = Instant.now().minus(Duration.ofHours(2));
+        TaskDeletionJobEntity expiredJob = createTaskDeletionJob(TaskDeletionJobStatus.COMPLETED, finishedOn, finishedOn);
+        TaskDeletionJobEntity completedJob = createTaskDeletionJob(TaskDeletionJobStatus.COMPLETED, Instant.now(), Instant.now());
+
+        assertThat(taskDeletionJobStore.deleteExpiredJobs().block()).isOne();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, admin))
+                .build()
+                .document(GET_TASK_DELETION_JOB)
+                .variable("jobId", expiredJob.getJobId())
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertNotFoundErrorResponse(responseError, TASK_DELETION_JOB_PATH, "Task deletion job with jobId: '" + expiredJob.getJobId() + "' not found.");
+                        });
+        assertThat(sendTaskDeletionJobRequest(admin, completedJob.getJobId()).status()).isEqualTo(TaskDeletionJobStatus.COMPLETED);
+    }
+
     @Test
     public void whenDeleteAllTasksWhenThereAreNoExistingTasks_shouldReturnEmptyResponse() {
 
@@ -80,15 +204,58 @@ public class AllTasksDeletionMutationControllerTest extends IntegrationTest {
         runTestForSendingRequestWithDifferentTokenSignature(DELETE_ALL_TASKS, DELETE_ALL_TASKS_PATH);
     }
 
-    private void sendDeleteAllTasksRequest(UserEntity userEntity) {
-        httpGraphQlTester
+    private UUID sendDeleteAllTasksRequest(UserEntity userEntity) {
+        return sendDeleteAllTasksRequest(userEntity, null);
+    }
+
+    private UUID sendDeleteAllTasksRequest(UserEntity userEntity, Map<String, Object> filter) {
+        return httpGraphQlTester
                 .mutate()
                 .headers(headers -> addAuthorizationHeader(headers, userEntity))
                 .build()
                 .document(DELETE_ALL_TASKS)
+                .variable("filter", filter)
+                .execute()
+                .errors()
+                .verify()
+                .path(DELETE_ALL_TASKS_PATH)
+                .entity(UUID.class)
+                .get();
+    }
+
+    private TaskDeletionJob sendTaskDeletionJobRequest(UserEntity userEntity, UUID jobId) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASK_DELETION_JOB)
+                .variable("jobId", jobId)
                 .execute()
                 .errors()
                 .verify()
-                .path(DELETE_ALL_TASKS_PATH);
+                .path(TASK_DELETION_JOB_PATH)
+                .entity(TaskDeletionJob.class)
+                .get();
+    }
+
+    // Jobs are created directly, as if started by another instance
+    private TaskDeletionJobEntity createTaskDeletionJob(TaskDeletionJobStatus status, Instant heartbeatOn, Instant finishedOn) {
+        TaskDeletionJobEntity job = new TaskDeletionJobEntity(UUID.randomUUID(), status, 3, heartbeatOn.minus(Duration.ofMinutes(1)),
+                heartbeatOn, finishedOn, null);
+        return r2dbcEntityTemplate.insert(job).block();
+    }
+
+    private TaskDeletionJob awaitTaskDeletionJob(UserEntity userEntity, UUID jobId) {
+        TaskDeletionJob taskDeletionJob = sendTaskDeletionJobRequest(userEntity, jobId);
+        for (int i = 0; i < MAX_JOB_STATUS_CHECKS && taskDeletionJob.status() == TaskDeletionJobStatus.RUNNING; i++) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            taskDeletionJob = sendTaskDeletionJobRequest(userEntity, jobId);
+        }
+        return taskDeletionJob;
     }
 }
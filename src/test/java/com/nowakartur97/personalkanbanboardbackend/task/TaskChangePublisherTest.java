@@ -0,0 +1,91 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.PostgresStarter;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounter;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRepository;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tasks imported by one instance are published to the subscribers of the other one
+@Tag("test-container")
+public class TaskChangePublisherTest implements PostgresStarter {
+
+    private final static int TASKS_COUNT = 1000;
+    private final static Duration LISTEN_DELAY = Duration.ofSeconds(1);
+    private final static Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static ConfigurableApplicationContext writingInstance;
+    private static ConfigurableApplicationContext listeningInstance;
+    private static SqlStatementCounter sqlStatementCounter;
+
+    @BeforeAll
+    public static void startInstances() {
+        sqlStatementCounter = new SqlStatementCounter();
+        writingInstance = PostgresStarter.startApplication();
+        listeningInstance = PostgresStarter.applicationBuilder()
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(sqlStatementCounter))
+                .run();
+    }
+
+    @AfterAll
+    public static void stopInstances() {
+        listeningInstance.close();
+        writingInstance.close();
+    }
+
+    @AfterEach
+    public void cleanUpTables() {
+        writingInstance.getBean(TaskRepository.class).deleteAll().block();
+        writingInstance.getBean(UserRepository.class).deleteAll().block();
+    }
+
+    @Test
+    public void whenTasksAreImportedByOneInstance_shouldReadThemBackInBatchesOnOtherInstance() {
+
+        UserEntity userEntity = writingInstance.getBean(UserRepository.class).save(UserEntity.builder()
+                        .username("testUser")
+                        .password("pass1")
+                        .email("testUser@domain.com")
+                        .role(UserRole.USER)
+                        .build())
+                .block();
+        List<TaskEntity> tasks = IntStream.range(0, TASKS_COUNT)
+                .mapToObj(i -> TaskEntity.builder()
+                        .title("testTask" + i)
+                        .status(TaskStatus.READY_TO_START)
+                        .priority(TaskPriority.LOW)
+                        .createdOn(Instant.now())
+                        .createdBy(userEntity.getUserId())
+                        .assignedTo(userEntity.getUserId())
+                        .build())
+                .toList();
+
+        StepVerifier.create(listeningInstance.getBean(TaskChangePublisher.class).subscribe().take(TASKS_COUNT))
+                .thenAwait(LISTEN_DELAY)
+                .then(() -> {
+                    sqlStatementCounter.reset();
+                    writingInstance.getBean(TaskService.class).saveAll(tasks).blockLast();
+                })
+                .thenConsumeWhile(taskChange -> taskChange.type() == TaskChangeType.CREATED
+                        && taskChange.task().createdBy().equals(userEntity.getUsername()))
+                .expectComplete()
+                .verify(TIMEOUT);
+
+        assertThat(sqlStatementCounter.countSelectsFrom("personal_kanban_board.tasks")).isLessThan(TASKS_COUNT / 10);
+        assertThat(sqlStatementCounter.countSelectsFrom("personal_kanban_board.users")).isLessThan(TASKS_COUNT / 10);
+    }
+}
@@ -0,0 +1,176 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.graphql.client.SubscriptionErrorException;
+import org.springframework.graphql.client.WebSocketGraphQlClient;
+import org.springframework.graphql.client.WebSocketGraphQlClientInterceptor;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.SUBSCRIBE_TO_BOARD_CHANGES;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.SUBSCRIBE_TO_TASK_CHANGES;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TaskChangeSubscriptionControllerTest extends IntegrationTest {
+
+    private final static Duration SUBSCRIPTION_START_DELAY = Duration.ofMillis(500);
+    private final static Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    public void whenTaskIsCreated_shouldPublishChangeToBoardSubscribers() {
+
+        UserEntity userEntity = createUser();
+
+        Flux<TaskChange> changes = createClient(userEntity)
+                .document(SUBSCRIBE_TO_BOARD_CHANGES)
+                .retrieveSubscription("boardChanged")
+                .toEntity(TaskChange.class);
+
+        StepVerifier.create(changes.take(1))
+                .thenAwait(SUBSCRIPTION_START_DELAY)
+                .then(() -> taskService.save(buildTask(userEntity)).block())
+                .assertNext(taskChange -> {
+                    assertThat(taskChange.type()).isEqualTo(TaskChangeType.CREATED);
+                    assertThat(taskChange.task().title()).isEqualTo("testTask");
+                    assertThat(taskChange.task().assignedTo()).isEqualTo(userEntity.getUsername());
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenTaskAssignedToOtherUserIsCreated_shouldNotPublishChangeToAssignedToSubscribers() {
+
+        UserEntity userEntity = createUser();
+        UserEntity otherUser = createUser("developer", "developer@domain.com");
+
+        Flux<TaskChange> changes = createClient(userEntity)
+                .document(SUBSCRIBE_TO_TASK_CHANGES)
+                .variable("assignedTo", userEntity.getUserId())
+                .retrieveSubscription("taskChanged")
+                .toEntity(TaskChange.class);
+
+        StepVerifier.create(changes.take(1))
+                .thenAwait(SUBSCRIPTION_START_DELAY)
+                .then(() -> {
+                    TaskEntity otherUserTask = taskService.save(buildTask(otherUser)).block();
+                    taskService.save(buildTask(userEntity)).block();
+                    assertThat(otherUserTask).isNotNull();
+                })
+                .assertNext(taskChange -> {
+                    assertThat(taskChange.type()).isEqualTo(TaskChangeType.CREATED);
+                    assertThat(taskChange.task().assignedTo()).isEqualTo(userEntity.getUsername());
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenTaskIsDeleted_shouldPublishChangeWithoutTask() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+
+        Flux<TaskChange> changes = createClient(userEntity)
+                .document(SUBSCRIBE_TO_TASK_CHANGES)
+                .variable("assignedTo", userEntity.getUserId())
+                .retrieveSubscription("taskChanged")
+                .toEntity(TaskChange.class);
+
+        StepVerifier.create(changes.take(1))
+                .thenAwait(SUBSCRIPTION_START_DELAY)
+                .then(() -> taskService.deleteById(taskEntity.getTaskId()).block())
+                .assertNext(taskChange -> {
+                    assertThat(taskChange.type()).isEqualTo(TaskChangeType.DELETED);
+                    assertThat(taskChange.taskId()).isEqualTo(taskEntity.getTaskId());
+                    assertThat(taskChange.task()).isNull();
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenAllTasksAreDeleted_shouldPublishResetWithoutTask() {
+
+        UserEntity userEntity = createUser();
+        createTask(userEntity.getUserId());
+
+        Flux<TaskChange> changes = createClient(userEntity)
+                .document(SUBSCRIBE_TO_TASK_CHANGES)
+                .variable("assignedTo", userEntity.getUserId())
+                .retrieveSubscription("taskChanged")
+                .toEntity(TaskChange.class);
+
+        StepVerifier.create(changes.take(1))
+                .thenAwait(SUBSCRIPTION_START_DELAY)
+                .then(() -> taskService.deleteAll(null).block())
+                .assertNext(taskChange -> {
+                    assertThat(taskChange.type()).isEqualTo(TaskChangeType.RESET);
+                    assertThat(taskChange.taskId()).isNull();
+                    assertThat(taskChange.task()).isNull();
+                })
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    public void whenSubscribeWithoutToken_shouldReturnError() {
+
+        WebSocketGraphQlClient client = WebSocketGraphQlClient
+                .builder(URI.create("ws://localhost:" + port + "/graphql-ws"), new ReactorNettyWebSocketClient())
+                .build();
+
+        Flux<TaskChange> changes = client
+                .document(SUBSCRIBE_TO_BOARD_CHANGES)
+                .retrieveSubscription("boardChanged")
+                .toEntity(TaskChange.class);
+
+        StepVerifier.create(changes)
+                .expectError(SubscriptionErrorException.class)
+                .verify(TIMEOUT);
+    }
+
+    private WebSocketGraphQlClient createClient(UserEntity userEntity) {
+        String token = jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name());
+        String authHeader = jwtConfigurationProperties.getAuthorizationType() + " " + token;
+        return WebSocketGraphQlClient
+                .builder(URI.create("ws://localhost:" + port + "/graphql-ws"), new ReactorNettyWebSocketClient())
+                .interceptor(new WebSocketGraphQlClientInterceptor() {
+                    @Override
+                    public Mono<Object> connectionInitPayload() {
+                        return Mono.just(Map.of(jwtConfigurationProperties.getAuthorizationHeader(), authHeader));
+                    }
+                })
+                .build();
+    }
+
+    private TaskEntity buildTask(UserEntity userEntity) {
+        return TaskEntity.builder()
+                .title("testTask")
+                .description("test")
+                .status(TaskStatus.READY_TO_START)
+                .priority(TaskPriority.LOW)
+                .targetEndDate(LocalDate.now())
+                .createdOn(Instant.now())
+                .createdBy(userEntity.getUserId())
+                .assignedTo(userEntity.getUserId())
+                .build();
+    }
+}
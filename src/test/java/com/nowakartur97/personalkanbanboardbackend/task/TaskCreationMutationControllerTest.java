@@ -7,8 +7,10 @@ import graphql.language.SourceLocation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.graphql.ResponseError;
 import org.springframework.graphql.test.tester.GraphQlTester;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
 
 import java.time.LocalDate;
@@ -21,6 +23,9 @@ public class TaskCreationMutationControllerTest extends IntegrationTest {
 
     private final static String CREATE_TASK_PATH = "createTask";
 
+    @Autowired
+    private DatabaseClient databaseClient;
+
     @ParameterizedTest
     @EnumSource(value = UserRole.class)
     public void whenCreateTask_shouldReturnTaskResponse(UserRole role) {
@@ -48,6 +53,39 @@ public class TaskCreationMutationControllerTest extends IntegrationTest {
         assertTaskResponse(taskResponse, taskDTO, userEntity.getUsername());
     }
 
+    @Test
+    public void whenCreateTask_shouldStoreStatusAndPriorityAsCodes() {
+
+        UserEntity userEntity = createUser();
+        TaskDTO taskDTO = new TaskDTO("title", "description", TaskStatus.DONE, TaskPriority.HIGH, null, null);
+
+        TaskResponse taskResponse = sendCreateTaskRequest(userEntity, taskDTO);
+
+        Short[] codes = databaseClient.sql("SELECT status_code, priority_code FROM personal_kanban_board.tasks WHERE task_id = :taskId")
+                .bind("taskId", taskResponse.taskId())
+                .map(row -> new Short[]{row.get("status_code", Short.class), row.get("priority_code", Short.class)})
+                .one()
+                .block();
+        assertThat(codes).containsExactly(TaskStatus.DONE.getCode(), TaskPriority.HIGH.getCode());
+        assertThat(taskResponse.status()).isEqualTo(TaskStatus.DONE);
+        assertThat(taskResponse.priority()).isEqualTo(TaskPriority.HIGH);
+    }
+
+    @Test
+    public void whenCreateTasks_shouldGenerateTimeOrderedTaskIds() {
+
+        UserEntity userEntity = createUser();
+        TaskDTO taskDTO = new TaskDTO("title", "description", null, null, null, null);
+
+        TaskResponse firstTaskResponse = sendCreateTaskRequest(userEntity, taskDTO);
+        TaskResponse secondTaskResponse = sendCreateTaskRequest(userEntity, taskDTO);
+
+        assertThat(firstTaskResponse.taskId().version()).isEqualTo(7);
+        assertThat(secondTaskResponse.taskId().version()).isEqualTo(7);
+        assertThat(Long.compareUnsigned(secondTaskResponse.taskId().getMostSignificantBits(),
+                firstTaskResponse.taskId().getMostSignificantBits())).isPositive();
+    }
+
     @Test
     public void whenCreateTaskForNotExistingUserAssignedTo_shouldReturnGraphQLErrorResponse() {
 
@@ -0,0 +1,123 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.exception.CustomErrorType;
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import graphql.language.SourceLocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.test.tester.GraphQlTester;
+
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.PATCH_TASK;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TaskPatchMutationControllerTest extends IntegrationTest {
+
+    private final static String PATCH_TASK_PATH = "patchTask";
+
+    @Test
+    public void whenPatchTask_shouldChangeOnlyGivenFieldsAndReturnTaskResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskPatch taskPatch = new TaskPatch(null, null, TaskStatus.DONE, null, null, null);
+
+        TaskResponse taskResponse = sendPatchTaskRequest(userEntity, taskEntity.getTaskId(), taskPatch, null)
+                .verify()
+                .path(PATCH_TASK_PATH)
+                .entity(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponse.status()).isEqualTo(TaskStatus.DONE);
+        assertThat(taskResponse.title()).isEqualTo(taskEntity.getTitle());
+        assertThat(taskResponse.description()).isEqualTo(taskEntity.getDescription());
+        assertThat(taskResponse.assignedTo()).isEqualTo(userEntity.getUsername());
+        assertThat(taskResponse.createdBy()).isEqualTo(userEntity.getUsername());
+        assertThat(taskResponse.updatedBy()).isEqualTo(userEntity.getUsername());
+        TaskEntity patchedTask = taskRepository.findById(taskEntity.getTaskId()).block();
+        assertThat(patchedTask.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(patchedTask.getPriority()).isEqualTo(taskEntity.getPriority());
+        assertThat(patchedTask.getVersion()).isEqualTo(taskEntity.getVersion() + 1);
+    }
+
+    @Test
+    public void whenPatchTaskWithExpectedVersion_shouldChangeTask() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskPatch taskPatch = new TaskPatch("new title", null, null, null, null, null);
+
+        sendPatchTaskRequest(userEntity, taskEntity.getTaskId(), taskPatch, taskEntity.getVersion())
+                .verify();
+
+        assertThat(taskRepository.findById(taskEntity.getTaskId()).block().getTitle()).isEqualTo("new title");
+    }
+
+    @Test
+    public void whenPatchTaskWithOutdatedExpectedVersion_shouldReturnGraphQLConflictErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskPatch taskPatch = new TaskPatch("new title", null, null, null, null, null);
+        sendPatchTaskRequest(userEntity, taskEntity.getTaskId(), taskPatch, taskEntity.getVersion())
+                .verify();
+
+        sendPatchTaskRequest(userEntity, taskEntity.getTaskId(), taskPatch, taskEntity.getVersion())
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(CustomErrorType.CONFLICT);
+                            assertErrorResponse(responseError, "Task with taskId: '" + taskEntity.getTaskId() + "' was modified concurrently.",
+                                    PATCH_TASK_PATH, new SourceLocation(2, 3));
+                        });
+    }
+
+    @Test
+    public void whenPatchNotExistingTask_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        UUID taskId = UUID.randomUUID();
+        TaskPatch taskPatch = new TaskPatch(null, null, TaskStatus.DONE, null, null, null);
+
+        sendPatchTaskRequest(userEntity, taskId, taskPatch, null)
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertNotFoundErrorResponse(responseError, PATCH_TASK_PATH, "Task with taskId: '" + taskId + "' not found.");
+                        });
+    }
+
+    @Test
+    public void whenPatchTaskForNotExistingUserAssignedTo_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        UUID assignedTo = UUID.randomUUID();
+        TaskPatch taskPatch = new TaskPatch(null, null, null, null, null, assignedTo);
+
+        sendPatchTaskRequest(userEntity, taskEntity.getTaskId(), taskPatch, null)
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertNotFoundErrorResponse(responseError, PATCH_TASK_PATH, "User with userId: '" + assignedTo + "' not found.");
+                        });
+    }
+
+    private GraphQlTester.Errors sendPatchTaskRequest(UserEntity userEntity, UUID taskId, TaskPatch taskPatch, Long expectedVersion) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(PATCH_TASK)
+                .variable("taskId", taskId)
+                .variable("taskPatch", taskPatch)
+                .variable("expectedVersion", expectedVersion)
+                .execute()
+                .errors();
+    }
+}
@@ -1,5 +1,6 @@
 package com.nowakartur97.personalkanbanboardbackend.task;
 
+import com.nowakartur97.personalkanbanboardbackend.exception.CustomErrorType;
 import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
 import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
 import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
@@ -71,6 +72,60 @@ public class TaskUpdateMutationControllerTest extends IntegrationTest {
         assertTaskResponse(taskResponse, taskRepository.findAll().blockFirst(), taskDTO, userEntity.getUsername(), userEntity.getUsername());
     }
 
+    @Test
+    public void whenUpdateTaskWithExpectedVersion_shouldIncrementVersionAndReturnTaskResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskDTO taskDTO = new TaskDTO("title", "description", TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM, LocalDate.now(), null);
+
+        TaskResponse taskResponse = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(UPDATE_TASK)
+                .variable("taskId", taskEntity.getTaskId())
+                .variable("taskDTO", taskDTO)
+                .variable("expectedVersion", taskEntity.getVersion())
+                .execute()
+                .errors()
+                .verify()
+                .path(UPDATE_TASK_PATH)
+                .entity(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponse.version()).isEqualTo(taskEntity.getVersion() + 1);
+        assertThat(taskRepository.findById(taskEntity.getTaskId()).block().getVersion()).isEqualTo(taskEntity.getVersion() + 1);
+    }
+
+    @Test
+    public void whenUpdateTaskWithOutdatedExpectedVersion_shouldReturnGraphQLConflictErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskDTO taskDTO = new TaskDTO("title", "description", TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM, LocalDate.now(), null);
+        sendUpdateTaskRequest(userEntity, taskEntity.getTaskId(), taskDTO);
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(UPDATE_TASK)
+                .variable("taskId", taskEntity.getTaskId())
+                .variable("taskDTO", taskDTO)
+                .variable("expectedVersion", taskEntity.getVersion())
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(CustomErrorType.CONFLICT);
+                            assertErrorResponse(responseError, "Task with taskId: '" + taskEntity.getTaskId() + "' was modified concurrently.",
+                                    UPDATE_TASK_PATH, new SourceLocation(2, 3));
+                        });
+    }
+
     @Test
     public void whenUpdateNotExistingTask_shouldReturnGraphQLErrorResponse() {
 
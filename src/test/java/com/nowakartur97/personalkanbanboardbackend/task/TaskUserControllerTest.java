@@ -0,0 +1,124 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounter;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounterTestConfiguration;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_CONNECTION;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_CONNECTION_OVERVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(SqlStatementCounterTestConfiguration.class)
+public class TaskUserControllerTest extends IntegrationTest {
+
+    private final static String USERS_TABLE = "personal_kanban_board.users";
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    public void whenGetTasksWithUserFields_shouldLookUpUsersOfAllTasksWithSingleQuery() {
+
+        UserEntity userEntity = createUser();
+        UserEntity developer2 = createUser("developer2", "developer2@domain.com");
+        UserEntity developer3 = createUser("developer3", "developer3@domain.com");
+        createTasksOfDifferentUsers(userEntity, developer2, developer3);
+        sqlStatementCounter.reset();
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS)
+                .execute()
+                .errors()
+                .verify()
+                .path("tasks")
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertTaskUsers(taskResponses, userEntity, developer2, developer3);
+        assertThat(countUserLookups()).isOne();
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithUserFields_shouldLookUpUsersOfAllTasksWithSingleQuery() {
+
+        UserEntity userEntity = createUser();
+        UserEntity developer2 = createUser("developer2", "developer2@domain.com");
+        UserEntity developer3 = createUser("developer3", "developer3@domain.com");
+        createTasksOfDifferentUsers(userEntity, developer2, developer3);
+        sqlStatementCounter.reset();
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CONNECTION)
+                .variable("first", 10)
+                .execute()
+                .errors()
+                .verify()
+                .path("tasksConnection.edges[*].node")
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertTaskUsers(taskResponses, userEntity, developer2, developer3);
+        assertThat(countUserLookups()).isOne();
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithoutUserFields_shouldNotLookUpTaskUsers() {
+
+        UserEntity userEntity = createUser();
+        UserEntity developer2 = createUser("developer2", "developer2@domain.com");
+        UserEntity developer3 = createUser("developer3", "developer3@domain.com");
+        createTasksOfDifferentUsers(userEntity, developer2, developer3);
+        sqlStatementCounter.reset();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CONNECTION_OVERVIEW)
+                .variable("first", 10)
+                .execute()
+                .errors()
+                .verify()
+                .path("tasksConnection.edges")
+                .entityList(Object.class)
+                .hasSize(3);
+
+        assertThat(countUserLookups()).isZero();
+    }
+
+    // Each user is a creator, an assignee and an updater of a different task
+    private void createTasksOfDifferentUsers(UserEntity userEntity, UserEntity developer2, UserEntity developer3) {
+        createTask(userEntity.getUserId(), developer2.getUserId(), developer3.getUserId());
+        createTask(developer2.getUserId(), developer3.getUserId(), userEntity.getUserId());
+        createTask(developer3.getUserId(), userEntity.getUserId(), developer2.getUserId());
+    }
+
+    private void assertTaskUsers(List<TaskResponse> taskResponses, UserEntity... users) {
+        List<String> usernames = Arrays.stream(users).map(UserEntity::getUsername).toList();
+        assertThat(taskResponses).hasSize(3);
+        assertThat(taskResponses).extracting(TaskResponse::createdBy).containsExactlyInAnyOrderElementsOf(usernames);
+        assertThat(taskResponses).extracting(TaskResponse::assignedTo).containsExactlyInAnyOrderElementsOf(usernames);
+        assertThat(taskResponses).extracting(TaskResponse::updatedBy).containsExactlyInAnyOrderElementsOf(usernames);
+    }
+
+    // Users referenced by tasks are looked up by their ids, unlike the authenticated user
+    private long countUserLookups() {
+        return sqlStatementCounter.getSelectsFrom(USERS_TABLE).stream()
+                .filter(statement -> statement.contains("user_id in"))
+                .count();
+    }
+}
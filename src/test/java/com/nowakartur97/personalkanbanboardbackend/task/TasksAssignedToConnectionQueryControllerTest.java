@@ -0,0 +1,85 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_ASSIGNED_TO_CONNECTION;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TasksAssignedToConnectionQueryControllerTest extends IntegrationTest {
+
+    private final static String TASKS_ASSIGNED_TO_CONNECTION_PATH = "tasksAssignedToConnection";
+
+    @ParameterizedTest
+    @EnumSource(value = UserRole.class)
+    public void whenGetTasksAssignedToConnection_shouldReturnOnlyTasksAssignedToUserPageByPage(UserRole role) {
+
+        UserEntity userEntity = createUser(role);
+        UUID assignedToId = userEntity.getUserId();
+        TaskEntity taskEntity = createTask(assignedToId);
+        UserEntity author = createUser("developer2", "developer2@domain.com");
+        createTask(author.getUserId());
+        TaskEntity taskEntity2 = createTask(assignedToId);
+
+        TaskConnection firstPage = sendGetTasksAssignedToConnectionRequest(userEntity, assignedToId, 1, null);
+
+        assertThat(firstPage.edges().size()).isOne();
+        assertThat(firstPage.pageInfo().hasNextPage()).isTrue();
+        assertTaskResponse(firstPage.edges().getFirst().node(), taskEntity, userEntity.getUsername(), userEntity.getUsername(), null);
+
+        TaskConnection secondPage = sendGetTasksAssignedToConnectionRequest(userEntity, assignedToId, 1, firstPage.pageInfo().endCursor());
+
+        assertThat(secondPage.edges().size()).isOne();
+        assertThat(secondPage.pageInfo().hasNextPage()).isFalse();
+        assertTaskResponse(secondPage.edges().getFirst().node(), taskEntity2, userEntity.getUsername(), userEntity.getUsername(), null);
+    }
+
+    @Test
+    public void whenGetTasksAssignedToConnectionForNotExistingUser_shouldReturnEmptyPage() {
+
+        UserEntity userEntity = createUser();
+
+        TaskConnection taskConnection = sendGetTasksAssignedToConnectionRequest(userEntity, UUID.randomUUID(), null, null);
+
+        assertThat(taskConnection.edges().size()).isZero();
+        assertThat(taskConnection.pageInfo().hasNextPage()).isFalse();
+    }
+
+    @Test
+    public void whenGetTasksAssignedToConnectionWithoutProvidingAuthorizationHeader_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithoutProvidingAuthorizationHeader(GET_TASKS_ASSIGNED_TO_CONNECTION, TASKS_ASSIGNED_TO_CONNECTION_PATH,
+                "assignedToId", UUID.randomUUID());
+    }
+
+    @Test
+    public void whenGetTasksAssignedToConnectionWithExpiredToken_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithExpiredToken(GET_TASKS_ASSIGNED_TO_CONNECTION, TASKS_ASSIGNED_TO_CONNECTION_PATH,
+                "assignedToId", UUID.randomUUID());
+    }
+
+    private TaskConnection sendGetTasksAssignedToConnectionRequest(UserEntity userEntity, UUID assignedToId,
+                                                                    Integer first, String after) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_ASSIGNED_TO_CONNECTION)
+                .variable("assignedToId", assignedToId)
+                .variable("first", first)
+                .variable("after", after)
+                .execute()
+                .errors()
+                .verify()
+                .path(TASKS_ASSIGNED_TO_CONNECTION_PATH)
+                .entity(TaskConnection.class)
+                .get();
+    }
+}
@@ -0,0 +1,236 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import graphql.language.SourceLocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.test.tester.GraphQlTester;
+import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.CREATE_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.DELETE_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.UPDATE_TASKS;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TasksBatchMutationControllerTest extends IntegrationTest {
+
+    private final static String CREATE_TASKS_PATH = "createTasks";
+    private final static String UPDATE_TASKS_PATH = "updateTasks";
+    private final static String DELETE_TASKS_PATH = "deleteTasks";
+
+    @Test
+    public void whenCreateTasks_shouldCreateTasksAndReturnResultPerTask() {
+
+        UserEntity userEntity = createUser();
+        UserEntity assignedTo = createUser("developer", "developer@domain.com");
+        UUID notExistingUserId = UUID.randomUUID();
+        List<TaskDTO> taskDTOs = List.of(
+                new TaskDTO("title1", "description", TaskStatus.IN_PROGRESS, TaskPriority.HIGH, LocalDate.now(), assignedTo.getUserId()),
+                new TaskDTO("title2", null, null, null, null, notExistingUserId),
+                new TaskDTO("title3", null, null, null, null, null));
+
+        List<TaskResult> results = sendBatchRequest(userEntity, CREATE_TASKS, "taskDTOs", taskDTOs, CREATE_TASKS_PATH);
+
+        assertThat(results.size()).isEqualTo(3);
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(0).task().title()).isEqualTo("title1");
+        assertThat(results.get(0).task().assignedTo()).isEqualTo(assignedTo.getUsername());
+        assertThat(results.get(0).task().createdBy()).isEqualTo(userEntity.getUsername());
+        assertThat(results.get(1).task()).isNull();
+        assertThat(results.get(1).error()).isEqualTo("User with userId: '" + notExistingUserId + "' not found.");
+        assertThat(results.get(2).task().status()).isEqualTo(TaskStatus.READY_TO_START);
+        assertThat(results.get(2).task().assignedTo()).isEqualTo(userEntity.getUsername());
+        assertThat(taskRepository.count().block()).isEqualTo(2);
+        assertThat(taskRepository.findById(results.get(0).taskId()).block()).isNotNull();
+    }
+
+    @Test
+    public void whenCreateTasksWithInvalidTasks_shouldRejectWholeBatch() {
+
+        UserEntity userEntity = createUser();
+        List<TaskDTO> taskDTOs = List.of(
+                new TaskDTO("title1", null, null, null, null, null),
+                new TaskDTO("", null, null, null, null, null),
+                new TaskDTO("title3", StringUtils.repeat("d", 1001), null, null, null, null));
+
+        sendBatchRequestWithErrors(userEntity, CREATE_TASKS, "taskDTOs", taskDTOs)
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isEqualTo(3);
+                            assertThat(responseErrors.get(0).getMessage()).isEqualTo("Title cannot be empty.");
+                            assertThat(responseErrors.get(1).getMessage()).isEqualTo("Title must be between 4 and 100 characters.");
+                            assertThat(responseErrors.get(2).getMessage()).isEqualTo("Description must be between 0 and 1000 characters.");
+                        });
+        assertThat(taskRepository.count().block()).isZero();
+    }
+
+    @Test
+    public void whenCreateTasksExceedingMaxBatchSize_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        List<TaskDTO> taskDTOs = Collections.nCopies(6, new TaskDTO("title", null, null, null, null, null));
+
+        sendBatchRequestWithErrors(userEntity, CREATE_TASKS, "taskDTOs", taskDTOs)
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                            assertErrorResponse(responseError, "Batch of: '6' items exceeds the maximum of: '5' items.",
+                                    CREATE_TASKS_PATH, new SourceLocation(2, 3));
+                        });
+        assertThat(taskRepository.count().block()).isZero();
+    }
+
+    @Test
+    public void whenUpdateTasksExceedingMaxBatchSize_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskDTO taskDTO = new TaskDTO("updated title", null, null, null, null, null);
+        List<TaskUpdateDTO> taskUpdateDTOs = Collections.nCopies(6, new TaskUpdateDTO(taskEntity.getTaskId(), taskDTO));
+
+        sendBatchRequestWithErrors(userEntity, UPDATE_TASKS, "taskUpdateDTOs", taskUpdateDTOs)
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                            assertErrorResponse(responseError, "Batch of: '6' items exceeds the maximum of: '5' items.",
+                                    UPDATE_TASKS_PATH, new SourceLocation(2, 3));
+                        });
+        assertThat(taskRepository.findById(taskEntity.getTaskId()).block().getTitle()).isEqualTo(taskEntity.getTitle());
+    }
+
+    @Test
+    public void whenDeleteTasksExceedingMaxBatchSize_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        List<UUID> taskIds = List.of(taskEntity.getTaskId(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID());
+
+        sendBatchRequestWithErrors(userEntity, DELETE_TASKS, "taskIds", taskIds)
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                            assertErrorResponse(responseError, "Batch of: '6' items exceeds the maximum of: '5' items.",
+                                    DELETE_TASKS_PATH, new SourceLocation(2, 3));
+                        });
+        assertThat(taskRepository.existsById(taskEntity.getTaskId()).block()).isTrue();
+        assertThat(taskTombstoneRepository.count().block()).isZero();
+    }
+
+    @Test
+    public void whenUpdateTasks_shouldUpdateExistingTasksAndReturnResultPerTask() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        UUID notExistingTaskId = UUID.randomUUID();
+        TaskDTO taskDTO = new TaskDTO("updated title", "updated description", TaskStatus.DONE, TaskPriority.HIGH, null, null);
+        List<TaskUpdateDTO> taskUpdateDTOs = List.of(
+                new TaskUpdateDTO(taskEntity.getTaskId(), taskDTO),
+                new TaskUpdateDTO(notExistingTaskId, taskDTO));
+
+        List<TaskResult> results = sendBatchRequest(userEntity, UPDATE_TASKS, "taskUpdateDTOs", taskUpdateDTOs, UPDATE_TASKS_PATH);
+
+        assertThat(results.size()).isEqualTo(2);
+        assertThat(results.get(0).taskId()).isEqualTo(taskEntity.getTaskId());
+        assertThat(results.get(0).task().title()).isEqualTo("updated title");
+        assertThat(results.get(0).task().status()).isEqualTo(TaskStatus.DONE);
+        assertThat(results.get(0).task().updatedBy()).isEqualTo(userEntity.getUsername());
+        assertThat(results.get(1).taskId()).isEqualTo(notExistingTaskId);
+        assertThat(results.get(1).error()).isEqualTo("Task with taskId: '" + notExistingTaskId + "' not found.");
+        TaskEntity updatedTask = taskRepository.findById(taskEntity.getTaskId()).block();
+        assertThat(updatedTask.getTitle()).isEqualTo("updated title");
+        assertThat(updatedTask.getPriority()).isEqualTo(TaskPriority.HIGH);
+    }
+
+    @Test
+    public void whenUpdateTasksWithExpectedVersions_shouldReportConflictPerTask() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskEntity staleTaskEntity = createTask(userEntity.getUserId());
+        TaskDTO taskDTO = new TaskDTO("updated title", null, null, null, null, null);
+        List<TaskUpdateDTO> taskUpdateDTOs = List.of(
+                new TaskUpdateDTO(taskEntity.getTaskId(), taskDTO, taskEntity.getVersion()),
+                new TaskUpdateDTO(staleTaskEntity.getTaskId(), taskDTO, staleTaskEntity.getVersion() + 1));
+
+        List<TaskResult> results = sendBatchRequest(userEntity, UPDATE_TASKS, "taskUpdateDTOs", taskUpdateDTOs, UPDATE_TASKS_PATH);
+
+        assertThat(results.size()).isEqualTo(2);
+        assertThat(results.get(0).error()).isNull();
+        assertThat(results.get(0).task().title()).isEqualTo("updated title");
+        assertThat(results.get(0).task().version()).isEqualTo(taskEntity.getVersion() + 1);
+        assertThat(results.get(1).taskId()).isEqualTo(staleTaskEntity.getTaskId());
+        assertThat(results.get(1).task()).isNull();
+        assertThat(results.get(1).error()).isEqualTo("Task with taskId: '" + staleTaskEntity.getTaskId() + "' was modified concurrently.");
+        TaskEntity notUpdatedTask = taskRepository.findById(staleTaskEntity.getTaskId()).block();
+        assertThat(notUpdatedTask.getTitle()).isEqualTo(staleTaskEntity.getTitle());
+        assertThat(notUpdatedTask.getVersion()).isEqualTo(staleTaskEntity.getVersion());
+    }
+
+    @Test
+    public void whenDeleteTasks_shouldDeleteExistingTasksAndReturnResultPerTask() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        UUID notExistingTaskId = UUID.randomUUID();
+
+        List<TaskDeletionResult> results = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(DELETE_TASKS)
+                .variable("taskIds", List.of(taskEntity.getTaskId(), notExistingTaskId))
+                .execute()
+                .errors()
+                .verify()
+                .path(DELETE_TASKS_PATH)
+                .entityList(TaskDeletionResult.class)
+                .get();
+
+        assertThat(results.size()).isEqualTo(2);
+        assertThat(results.get(0)).isEqualTo(new TaskDeletionResult(taskEntity.getTaskId(), true));
+        assertThat(results.get(1)).isEqualTo(new TaskDeletionResult(notExistingTaskId, false));
+        assertThat(taskRepository.count().block()).isZero();
+        assertThat(taskTombstoneRepository.existsById(taskEntity.getTaskId()).block()).isTrue();
+    }
+
+    private List<TaskResult> sendBatchRequest(UserEntity userEntity, String document, String variableName,
+                                              Object variable, String path) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(document)
+                .variable(variableName, variable)
+                .execute()
+                .errors()
+                .verify()
+                .path(path)
+                .entityList(TaskResult.class)
+                .get();
+    }
+
+    private GraphQlTester.Errors sendBatchRequestWithErrors(UserEntity userEntity, String document, String variableName, Object variable) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(document)
+                .variable(variableName, variable)
+                .execute()
+                .errors();
+    }
+}
@@ -0,0 +1,199 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import graphql.language.SourceLocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.execution.ErrorType;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_CHANGED_SINCE;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TasksChangedSinceQueryControllerTest extends IntegrationTest {
+
+    private final static String TASKS_CHANGED_SINCE_PATH = "tasksChangedSince";
+
+    @Autowired
+    private TaskService taskService;
+    @Autowired
+    private R2dbcEntityTemplate r2dbcEntityTemplate;
+
+    @Test
+    public void whenGetTasksChangedSince_shouldReturnTasksChangedAndDeletedSinceThen() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity oldTaskEntity = createTask(userEntity.getUserId());
+        oldTaskEntity.setCreatedOn(Instant.now().minus(2, ChronoUnit.DAYS));
+        taskRepository.save(oldTaskEntity).block();
+        TaskEntity deletedTaskEntity = createTask(userEntity.getUserId());
+        deletedTaskEntity.setCreatedOn(Instant.now().minus(2, ChronoUnit.DAYS));
+        taskRepository.save(deletedTaskEntity).block();
+        Instant since = Instant.now().minus(1, ChronoUnit.DAYS);
+        TaskEntity newTaskEntity = createTask(userEntity.getUserId());
+        taskService.deleteById(deletedTaskEntity.getTaskId()).block();
+
+        TasksDelta tasksDelta = sendGetTasksChangedSinceRequest(userEntity, since, null, null);
+
+        assertThat(tasksDelta.changed().size()).isOne();
+        assertTaskResponse(tasksDelta.changed().getFirst(), newTaskEntity, userEntity.getUsername(), userEntity.getUsername(), null);
+        assertThat(tasksDelta.deleted().size()).isOne();
+        assertThat(tasksDelta.deleted().getFirst().taskId()).isEqualTo(deletedTaskEntity.getTaskId());
+        assertThat(tasksDelta.pageInfo().hasNextPage()).isFalse();
+        assertThat(tasksDelta.pageInfo().endCursor()).isNotNull();
+    }
+
+    @Test
+    public void whenGetTasksChangedSinceWithCursor_shouldReturnChangesPageByPage() {
+
+        UserEntity userEntity = createUser();
+        Instant since = Instant.now().minus(1, ChronoUnit.MINUTES);
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskEntity taskEntity2 = createTask(userEntity.getUserId());
+        TaskEntity taskEntity3 = createTask(userEntity.getUserId());
+        taskService.deleteById(taskEntity3.getTaskId()).block();
+
+        TasksDelta firstPage = sendGetTasksChangedSinceRequest(userEntity, since, 2, null);
+
+        assertThat(firstPage.changed().size()).isEqualTo(2);
+        assertThat(firstPage.deleted().size()).isZero();
+        assertThat(firstPage.pageInfo().hasNextPage()).isTrue();
+        assertThat(firstPage.changed().getFirst().taskId()).isEqualTo(taskEntity.getTaskId());
+        assertThat(firstPage.changed().getLast().taskId()).isEqualTo(taskEntity2.getTaskId());
+
+        TasksDelta secondPage = sendGetTasksChangedSinceRequest(userEntity, since, 2, firstPage.pageInfo().endCursor());
+
+        assertThat(secondPage.changed().size()).isZero();
+        assertThat(secondPage.deleted().size()).isOne();
+        assertThat(secondPage.deleted().getFirst().taskId()).isEqualTo(taskEntity3.getTaskId());
+        assertThat(secondPage.pageInfo().hasNextPage()).isFalse();
+
+        TasksDelta nextSync = sendGetTasksChangedSinceRequest(userEntity, since, 2, secondPage.pageInfo().endCursor());
+
+        assertThat(nextSync.changed().size()).isZero();
+        assertThat(nextSync.deleted().size()).isZero();
+        assertThat(nextSync.pageInfo().hasNextPage()).isFalse();
+        assertThat(nextSync.pageInfo().endCursor()).isNotNull();
+    }
+
+    @Test
+    public void whenGetTasksChangedSinceWithCursorOfEmptyPage_shouldReturnTasksChangedLater() {
+
+        UserEntity userEntity = createUser();
+        Instant since = Instant.now().minus(1, ChronoUnit.MINUTES);
+        TasksDelta firstSync = sendGetTasksChangedSinceRequest(userEntity, since, null, null);
+        TasksDelta emptySync = sendGetTasksChangedSinceRequest(userEntity, since, null, firstSync.pageInfo().endCursor());
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+
+        TasksDelta nextSync = sendGetTasksChangedSinceRequest(userEntity, since, null, emptySync.pageInfo().endCursor());
+
+        assertThat(firstSync.changed().size()).isZero();
+        assertThat(emptySync.changed().size()).isZero();
+        assertThat(emptySync.pageInfo().endCursor()).isNotNull();
+        assertThat(nextSync.changed().size()).isOne();
+        assertThat(nextSync.changed().getFirst().taskId()).isEqualTo(taskEntity.getTaskId());
+    }
+
+    @Test
+    public void whenGetTasksChangedSinceWithChangesNotSettledYet_shouldLeaveThemForNextSync() {
+
+        UserEntity userEntity = createUser();
+        Instant since = Instant.now().minus(1, ChronoUnit.MINUTES);
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskEntity unsettledTaskEntity = createTask(userEntity.getUserId());
+        unsettledTaskEntity.setUpdatedOn(Instant.now().plus(1, ChronoUnit.HOURS));
+        taskRepository.save(unsettledTaskEntity).block();
+
+        TasksDelta tasksDelta = sendGetTasksChangedSinceRequest(userEntity, since, null, null);
+
+        assertThat(tasksDelta.changed().size()).isOne();
+        assertThat(tasksDelta.changed().getFirst().taskId()).isEqualTo(taskEntity.getTaskId());
+        assertThat(tasksDelta.pageInfo().hasNextPage()).isFalse();
+    }
+
+    @Test
+    public void whenGetTasksChangedSinceBeforePrunedTombstones_shouldRequireResync() {
+
+        UserEntity userEntity = createUser();
+        createTask(userEntity.getUserId());
+        r2dbcEntityTemplate.insert(new TaskTombstoneEntity(UUID.randomUUID(), Instant.now().minus(40, ChronoUnit.DAYS))).block();
+        taskService.pruneTombstones().block();
+
+        TasksDelta tasksDelta = sendGetTasksChangedSinceRequest(userEntity, Instant.now().minus(35, ChronoUnit.DAYS), null, null);
+        TasksDelta fullSync = sendGetTasksChangedSinceRequest(userEntity, null, null, null);
+
+        assertThat(tasksDelta.resyncRequired()).isTrue();
+        assertThat(tasksDelta.changed().size()).isZero();
+        assertThat(tasksDelta.deleted().size()).isZero();
+        assertThat(tasksDelta.pageInfo().endCursor()).isNull();
+        assertThat(fullSync.resyncRequired()).isFalse();
+        assertThat(fullSync.changed().size()).isOne();
+        assertThat(taskTombstoneRepository.count().block()).isZero();
+    }
+
+    @Test
+    public void whenGetTasksChangedSinceWithInvalidCursor_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CHANGED_SINCE)
+                .variable("cursor", "invalid")
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                            assertErrorResponse(responseError, "Cursor: 'invalid' is invalid.", TASKS_CHANGED_SINCE_PATH, new SourceLocation(2, 3));
+                        });
+    }
+
+    @Test
+    public void whenGetTasksChangedSinceBeforeBoardReset_shouldRequireResync() {
+
+        UserEntity userEntity = createUser();
+        Instant since = Instant.now().minus(1, ChronoUnit.MINUTES);
+        createTask(userEntity.getUserId());
+        TasksDelta firstSync = sendGetTasksChangedSinceRequest(userEntity, since, null, null);
+        taskService.deleteAll(null).block();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+
+        TasksDelta nextSync = sendGetTasksChangedSinceRequest(userEntity, since, null, firstSync.pageInfo().endCursor());
+        TasksDelta fullSync = sendGetTasksChangedSinceRequest(userEntity, null, null, null);
+
+        assertThat(firstSync.changed().size()).isOne();
+        assertThat(nextSync.resyncRequired()).isTrue();
+        assertThat(nextSync.changed().size()).isZero();
+        assertThat(fullSync.resyncRequired()).isFalse();
+        assertThat(fullSync.changed().size()).isOne();
+        assertThat(fullSync.changed().getFirst().taskId()).isEqualTo(taskEntity.getTaskId());
+    }
+
+    private TasksDelta sendGetTasksChangedSinceRequest(UserEntity userEntity, Instant since, Integer first, String cursor) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CHANGED_SINCE)
+                .variable("since", since != null ? since.toString() : null)
+                .variable("first", first)
+                .variable("cursor", cursor)
+                .execute()
+                .errors()
+                .verify()
+                .path(TASKS_CHANGED_SINCE_PATH)
+                .entity(TasksDelta.class)
+                .get();
+    }
+}
@@ -0,0 +1,149 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import com.nowakartur97.personalkanbanboardbackend.user.UserRole;
+import graphql.language.SourceLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.execution.ErrorType;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_CONNECTION;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+public class TasksConnectionQueryControllerTest extends IntegrationTest {
+
+    private final static String TASKS_CONNECTION_PATH = "tasksConnection";
+
+    @ParameterizedTest
+    @EnumSource(value = UserRole.class)
+    public void whenGetTasksConnection_shouldReturnTasksPageByPage(UserRole role) {
+
+        UserEntity userEntity = createUser(role);
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        TaskEntity taskEntity2 = createTask(userEntity.getUserId());
+        UserEntity author = createUser("developer2", "developer2@domain.com");
+        UserEntity assignedTo = createUser("developer3", "developer3@domain.com");
+        UserEntity updatedBy = createUser("developer4", "developer4@domain.com");
+        TaskEntity taskEntity3 = createTask(author.getUserId(), assignedTo.getUserId(), updatedBy.getUserId());
+
+        TaskConnection firstPage = sendGetTasksConnectionRequest(userEntity, 2, null);
+
+        assertThat(firstPage.edges().size()).isEqualTo(2);
+        assertThat(firstPage.pageInfo().hasNextPage()).isTrue();
+        assertThat(firstPage.pageInfo().endCursor()).isEqualTo(firstPage.edges().getLast().cursor());
+        assertTaskResponse(firstPage.edges().getFirst().node(), taskEntity, userEntity.getUsername(), userEntity.getUsername(), null);
+        assertTaskResponse(firstPage.edges().getLast().node(), taskEntity2, userEntity.getUsername(), userEntity.getUsername(), null);
+
+        TaskConnection secondPage = sendGetTasksConnectionRequest(userEntity, 2, firstPage.pageInfo().endCursor());
+
+        assertThat(secondPage.edges().size()).isOne();
+        assertThat(secondPage.pageInfo().hasNextPage()).isFalse();
+        assertThat(secondPage.pageInfo().endCursor()).isEqualTo(secondPage.edges().getFirst().cursor());
+        assertTaskResponse(secondPage.edges().getFirst().node(), taskEntity3, author.getUsername(), assignedTo.getUsername(), updatedBy.getUsername());
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithoutTasks_shouldReturnEmptyPage() {
+
+        UserEntity userEntity = createUser();
+
+        TaskConnection taskConnection = sendGetTasksConnectionRequest(userEntity, null, null);
+
+        assertThat(taskConnection.edges().size()).isZero();
+        assertThat(taskConnection.pageInfo().hasNextPage()).isFalse();
+        assertThat(taskConnection.pageInfo().endCursor()).isNull();
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithInvalidCursor_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CONNECTION)
+                .variable("after", "invalid")
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                            assertErrorResponse(responseError, "Cursor: 'invalid' is invalid.", TASKS_CONNECTION_PATH, new SourceLocation(2, 3));
+                        });
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithTooLargePageSize_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CONNECTION)
+                .variable("first", 101)
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertErrorResponse(responseError, "Page size must be between 1 and 100.", TASKS_CONNECTION_PATH, new SourceLocation(2, 3));
+                        });
+    }
+
+    @Test
+    public void whenGetTasksConnectionByNotExistingUser_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithInvalidCredentials(GET_TASKS_CONNECTION, TASKS_CONNECTION_PATH,
+                jwtUtil.generateToken("notExistingUser", UserRole.USER.name()));
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithoutProvidingAuthorizationHeader_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithoutProvidingAuthorizationHeader(GET_TASKS_CONNECTION, TASKS_CONNECTION_PATH);
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithExpiredToken_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithExpiredToken(GET_TASKS_CONNECTION, TASKS_CONNECTION_PATH);
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithInvalidToken_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithInvalidToken(GET_TASKS_CONNECTION, TASKS_CONNECTION_PATH);
+    }
+
+    @Test
+    public void whenGetTasksConnectionWithDifferentTokenSignature_shouldReturnGraphQLErrorResponse() {
+
+        runTestForSendingRequestWithDifferentTokenSignature(GET_TASKS_CONNECTION, TASKS_CONNECTION_PATH);
+    }
+
+    private TaskConnection sendGetTasksConnectionRequest(UserEntity userEntity, Integer first, String after) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_CONNECTION)
+                .variable("first", first)
+                .variable("after", after)
+                .execute()
+                .errors()
+                .verify()
+                .path(TASKS_CONNECTION_PATH)
+                .entity(TaskConnection.class)
+                .get();
+    }
+}
@@ -8,7 +8,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_FILTERED_TASKS;
 import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -46,6 +49,85 @@ public class TasksQueryControllerTest extends IntegrationTest {
         assertTaskResponse(taskResponse2, taskEntity2, author.getUsername(), assignedTo.getUsername(), updatedBy.getUsername());
     }
 
+    @Test
+    public void whenGetTasksFilteredByStatusesAndPriorities_shouldReturnOnlyMatchingTasks() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId(), "board", TaskStatus.IN_PROGRESS, TaskPriority.HIGH);
+        createTask(userEntity.getUserId(), "board", TaskStatus.IN_PROGRESS, TaskPriority.LOW);
+        createTask(userEntity.getUserId(), "board", TaskStatus.DONE, TaskPriority.HIGH);
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_FILTERED_TASKS)
+                .variable("filter", Map.of("statuses", List.of(TaskStatus.IN_PROGRESS.name(), TaskStatus.READY_TO_START.name()),
+                        "priorities", List.of(TaskPriority.HIGH.name())))
+                .execute()
+                .errors()
+                .verify()
+                .path(TASKS_PATH)
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponses.size()).isEqualTo(1);
+        assertTaskResponse(taskResponses.getFirst(), taskEntity, userEntity.getUsername(), userEntity.getUsername(), null);
+    }
+
+    @Test
+    public void whenGetTasksFilteredByTitleAndAssignee_shouldReturnOnlyMatchingTasks() {
+
+        UserEntity userEntity = createUser();
+        UserEntity author = createUser("developer2", "developer2@domain.com");
+        TaskEntity taskEntity = createTask(userEntity.getUserId(), "Kanban board", TaskStatus.READY_TO_START, TaskPriority.LOW);
+        createTask(userEntity.getUserId(), "Backlog", TaskStatus.READY_TO_START, TaskPriority.LOW);
+        createTask(author.getUserId(), "Kanban board", TaskStatus.READY_TO_START, TaskPriority.LOW);
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_FILTERED_TASKS)
+                .variable("filter", Map.of("title", "BOARD", "assignedToId", userEntity.getUserId()))
+                .execute()
+                .errors()
+                .verify()
+                .path(TASKS_PATH)
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponses.size()).isEqualTo(1);
+        assertTaskResponse(taskResponses.getFirst(), taskEntity, userEntity.getUsername(), userEntity.getUsername(), null);
+    }
+
+    @Test
+    public void whenGetTasksSortedByTitleDescending_shouldReturnSortedTasks() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId(), "a task", TaskStatus.READY_TO_START, TaskPriority.LOW);
+        TaskEntity taskEntity2 = createTask(userEntity.getUserId(), "c task", TaskStatus.READY_TO_START, TaskPriority.LOW);
+        TaskEntity taskEntity3 = createTask(userEntity.getUserId(), "b task", TaskStatus.READY_TO_START, TaskPriority.LOW);
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_FILTERED_TASKS)
+                .variable("sort", List.of(Map.of("field", TaskSortField.TITLE.name(), "direction", "DESC")))
+                .execute()
+                .errors()
+                .verify()
+                .path(TASKS_PATH)
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponses.size()).isEqualTo(3);
+        assertThat(taskResponses.get(0).taskId()).isEqualTo(taskEntity2.getTaskId());
+        assertThat(taskResponses.get(1).taskId()).isEqualTo(taskEntity3.getTaskId());
+        assertThat(taskResponses.get(2).taskId()).isEqualTo(taskEntity.getTaskId());
+    }
+
     @Test
     public void whenGetTasksByNotExistingUser_shouldReturnGraphQLErrorResponse() {
 
@@ -76,4 +158,12 @@ public class TasksQueryControllerTest extends IntegrationTest {
 
         runTestForSendingRequestWithDifferentTokenSignature(GET_TASKS, TASKS_PATH);
     }
+
+    private TaskEntity createTask(UUID userId, String title, TaskStatus status, TaskPriority priority) {
+        TaskEntity taskEntity = createTask(userId);
+        taskEntity.setTitle(title);
+        taskEntity.setStatus(status);
+        taskEntity.setPriority(priority);
+        return taskRepository.save(taskEntity).block();
+    }
 }
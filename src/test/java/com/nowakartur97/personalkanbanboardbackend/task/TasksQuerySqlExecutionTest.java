@@ -0,0 +1,127 @@
+package com.nowakartur97.personalkanbanboardbackend.task;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounter;
+import com.nowakartur97.personalkanbanboardbackend.integration.SqlStatementCounterTestConfiguration;
+import com.nowakartur97.personalkanbanboardbackend.user.UserEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_ASSIGNED_TO;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_OVERVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(SqlStatementCounterTestConfiguration.class)
+public class TasksQuerySqlExecutionTest extends IntegrationTest {
+
+    private final static String TASKS_TABLE = "personal_kanban_board.tasks";
+    private final static String USERS_TABLE = "personal_kanban_board.users";
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    public void whenGetAllTasks_shouldExecuteTasksQueryOnce() {
+
+        UserEntity userEntity = createUser();
+        UserEntity author = createUser("developer2", "developer2@domain.com");
+        createTask(userEntity.getUserId());
+        createTask(author.getUserId());
+        createTask(author.getUserId(), userEntity.getUserId(), userEntity.getUserId());
+        sqlStatementCounter.reset();
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS)
+                .execute()
+                .errors()
+                .verify()
+                .path("tasks")
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponses.size()).isEqualTo(3);
+        assertThat(sqlStatementCounter.countSelectsFrom(TASKS_TABLE)).isOne();
+    }
+
+    @Test
+    public void whenGetAllTasksAssignedToUser_shouldExecuteTasksQueryOnce() {
+
+        UserEntity userEntity = createUser();
+        createTask(userEntity.getUserId());
+        createTask(userEntity.getUserId());
+        sqlStatementCounter.reset();
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_ASSIGNED_TO)
+                .variable("assignedToId", userEntity.getUserId())
+                .execute()
+                .errors()
+                .verify()
+                .path("tasksAssignedTo")
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponses.size()).isEqualTo(2);
+        assertThat(sqlStatementCounter.countSelectsFrom(TASKS_TABLE)).isOne();
+    }
+
+    @Test
+    public void whenGetAllTasksWithoutDescription_shouldNotSelectDescriptionColumn() {
+
+        UserEntity userEntity = createUser();
+        TaskEntity taskEntity = createTask(userEntity.getUserId());
+        sqlStatementCounter.reset();
+
+        List<TaskResponse> taskResponses = httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_OVERVIEW)
+                .execute()
+                .errors()
+                .verify()
+                .path("tasks")
+                .entityList(TaskResponse.class)
+                .get();
+
+        assertThat(taskResponses.size()).isOne();
+        TaskResponse taskResponse = taskResponses.getFirst();
+        assertThat(taskResponse.taskId()).isEqualTo(taskEntity.getTaskId());
+        assertThat(taskResponse.title()).isEqualTo(taskEntity.getTitle());
+        assertThat(taskResponse.status()).isEqualTo(taskEntity.getStatus());
+        assertThat(taskResponse.description()).isNull();
+        List<String> tasksSelects = sqlStatementCounter.getSelectsFrom(TASKS_TABLE);
+        assertThat(tasksSelects).hasSize(1);
+        assertThat(tasksSelects.getFirst()).doesNotContain("description");
+    }
+
+    @Test
+    public void whenGetAllTasksWithoutUserFields_shouldNotLookUpTaskUsers() {
+
+        UserEntity userEntity = createUser();
+        createTask(userEntity.getUserId());
+        sqlStatementCounter.reset();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(GET_TASKS_OVERVIEW)
+                .execute()
+                .errors()
+                .verify();
+
+        assertThat(sqlStatementCounter.getSelectsFrom(USERS_TABLE))
+                .noneMatch(statement -> statement.contains("user_id in"));
+    }
+}
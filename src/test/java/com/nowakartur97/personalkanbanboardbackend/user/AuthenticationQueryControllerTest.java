@@ -33,7 +33,7 @@ public class AuthenticationQueryControllerTest extends IntegrationTest {
         assertThat(userResponse.userId()).isEqualTo(userEntity.getUserId());
         assertThat(userResponse.username()).isEqualTo(userEntity.getUsername());
         assertThat(userResponse.email()).isEqualTo(userEntity.getEmail());
-        assertThat(userResponse.token()).isEqualTo(jwtUtil.generateToken(userEntity.getUsername(), userEntity.getRole().name()));
+        assertThat(userResponse.token()).isEqualTo(jwtUtil.generateToken(userEntity.getUserId(), userEntity.getUsername(), userEntity.getRole().name()));
         assertThat(userResponse.expirationTimeInMilliseconds()).isEqualTo(jwtConfigurationProperties.getExpirationTimeInMilliseconds());
         assertThat(userResponse.role()).isEqualTo(userEntity.getRole());
     }
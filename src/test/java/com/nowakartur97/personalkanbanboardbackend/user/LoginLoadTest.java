@@ -0,0 +1,82 @@
+package com.nowakartur97.personalkanbanboardbackend.user;
+
+import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.AUTHENTICATE_USER;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.GET_TASKS_OVERVIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Run with: ./mvnw -P load-test test
+@Tag("load-test")
+public class LoginLoadTest extends IntegrationTest {
+
+    private final static int LOGIN_CLIENTS = 32;
+    private final static int TASKS_REQUESTS = 100;
+
+    @Test
+    public void whenLoginsAreSaturating_tasksQueryLatencyShouldNotDegrade() throws InterruptedException {
+
+        UserEntity userEntity = createUser();
+        for (int i = 0; i < 20; i++) {
+            createTask(userEntity.getUserId());
+        }
+        AuthenticationRequest authenticationRequest = new AuthenticationRequest(userEntity.getUsername(), "pass1");
+        Duration baselineLatency = getTasksLatencyPercentile(userEntity);
+
+        AtomicBoolean saturating = new AtomicBoolean(true);
+        AtomicInteger logins = new AtomicInteger();
+        ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            loginClients.submit(() -> {
+                while (saturating.get()) {
+                    httpGraphQlTester
+                            .document(AUTHENTICATE_USER)
+                            .variable("authenticationRequest", authenticationRequest)
+                            .execute();
+                    logins.incrementAndGet();
+                }
+            });
+        }
+        Duration saturatedLatency;
+        try {
+            saturatedLatency = getTasksLatencyPercentile(userEntity);
+        } finally {
+            saturating.set(false);
+            loginClients.shutdown();
+            loginClients.awaitTermination(30, TimeUnit.SECONDS);
+        }
+
+        assertThat(logins.get()).isPositive();
+        assertThat(saturatedLatency).isLessThanOrEqualTo(baselineLatency.multipliedBy(3).plusMillis(50));
+    }
+
+    // 95th percentile of the tasks query latency
+    private Duration getTasksLatencyPercentile(UserEntity userEntity) {
+        List<Long> latencies = new ArrayList<>(TASKS_REQUESTS);
+        for (int i = 0; i < TASKS_REQUESTS; i++) {
+            long startTime = System.nanoTime();
+            httpGraphQlTester
+                    .mutate()
+                    .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                    .build()
+                    .document(GET_TASKS_OVERVIEW)
+                    .execute()
+                    .errors()
+                    .verify();
+            latencies.add(System.nanoTime() - startTime);
+        }
+        latencies.sort(Long::compare);
+        return Duration.ofNanos(latencies.get((int) (TASKS_REQUESTS * 0.95) - 1));
+    }
+}
@@ -1,13 +1,15 @@
 package com.nowakartur97.personalkanbanboardbackend.user;
 
 import com.nowakartur97.personalkanbanboardbackend.integration.IntegrationTest;
+import graphql.language.SourceLocation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-
-import java.util.List;
+import org.springframework.graphql.ResponseError;
+import org.springframework.graphql.execution.ErrorType;
 
 import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.FIND_ALL_USERS;
+import static com.nowakartur97.personalkanbanboardbackend.integration.GraphQLQueries.FIND_USERS_PAGE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 public class UserQueryControllerTest extends IntegrationTest {
@@ -21,7 +23,7 @@ public class UserQueryControllerTest extends IntegrationTest {
         UserEntity userEntity = createUser(role);
         UserEntity userEntity2 = createUser("developer", "developer@domain.com");
 
-        List<UserResponse> usersResponse = httpGraphQlTester
+        UserConnection usersResponse = httpGraphQlTester
                 .mutate()
                 .headers(headers -> addAuthorizationHeader(headers, userEntity))
                 .build()
@@ -30,14 +32,59 @@ public class UserQueryControllerTest extends IntegrationTest {
                 .errors()
                 .verify()
                 .path(FIND_ALL_USERS_PATH)
-                .entityList(UserResponse.class)
+                .entity(UserConnection.class)
                 .get();
 
-        assertThat(usersResponse.size()).isEqualTo(2);
-        UserResponse firstUserResponse = usersResponse.getFirst();
-        UserResponse secondUserResponse = usersResponse.getLast();
-        assertUserResponse(firstUserResponse, userEntity);
-        assertUserResponse(secondUserResponse, userEntity2);
+        assertThat(usersResponse.edges().size()).isEqualTo(2);
+        assertThat(usersResponse.pageInfo().hasNextPage()).isFalse();
+        assertThat(usersResponse.pageInfo().endCursor()).isEqualTo(usersResponse.edges().getLast().cursor());
+        assertUserResponse(usersResponse.edges().getFirst().node(), userEntity2);
+        assertUserResponse(usersResponse.edges().getLast().node(), userEntity);
+    }
+
+    @Test
+    public void whenFindUsersPageByPage_shouldReturnUsersOrderedByUsernameWithPageInfo() {
+
+        UserEntity userEntity = createUser();
+        UserEntity userEntity2 = createUser("developer", "developer@domain.com");
+        UserEntity userEntity3 = createUser("manager", "manager@domain.com");
+
+        UserConnection firstPage = sendFindUsersPageRequest(userEntity, 2, null);
+
+        assertThat(firstPage.edges().size()).isEqualTo(2);
+        assertThat(firstPage.pageInfo().hasNextPage()).isTrue();
+        assertThat(firstPage.pageInfo().endCursor()).isEqualTo(firstPage.edges().getLast().cursor());
+        assertUserResponse(firstPage.edges().getFirst().node(), userEntity2);
+        assertUserResponse(firstPage.edges().getLast().node(), userEntity3);
+
+        UserConnection secondPage = sendFindUsersPageRequest(userEntity, 2, firstPage.pageInfo().endCursor());
+
+        assertThat(secondPage.edges().size()).isOne();
+        assertThat(secondPage.pageInfo().hasNextPage()).isFalse();
+        assertThat(secondPage.pageInfo().endCursor()).isEqualTo(secondPage.edges().getFirst().cursor());
+        assertUserResponse(secondPage.edges().getFirst().node(), userEntity);
+    }
+
+    @Test
+    public void whenFindUsersPageWithInvalidCursor_shouldReturnGraphQLErrorResponse() {
+
+        UserEntity userEntity = createUser();
+
+        httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(FIND_USERS_PAGE)
+                .variable("after", "invalid")
+                .execute()
+                .errors()
+                .satisfy(
+                        responseErrors -> {
+                            assertThat(responseErrors.size()).isOne();
+                            ResponseError responseError = responseErrors.getFirst();
+                            assertThat(responseError.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+                            assertErrorResponse(responseError, "Cursor: 'invalid' is invalid.", FIND_ALL_USERS_PATH, new SourceLocation(2, 3));
+                        });
     }
 
     @Test
@@ -60,12 +107,26 @@ public class UserQueryControllerTest extends IntegrationTest {
         runTestForSendingRequestWithDifferentTokenSignature(FIND_ALL_USERS, FIND_ALL_USERS_PATH);
     }
 
-    private void assertUserResponse(UserResponse userResponse, UserEntity userEntity) {
+    private UserConnection sendFindUsersPageRequest(UserEntity userEntity, Integer first, String after) {
+        return httpGraphQlTester
+                .mutate()
+                .headers(headers -> addAuthorizationHeader(headers, userEntity))
+                .build()
+                .document(FIND_USERS_PAGE)
+                .variable("first", first)
+                .variable("after", after)
+                .execute()
+                .errors()
+                .verify()
+                .path(FIND_ALL_USERS_PATH)
+                .entity(UserConnection.class)
+                .get();
+    }
+
+    private void assertUserResponse(UserSummary userResponse, UserEntity userEntity) {
         assertThat(userResponse.userId()).isEqualTo(userEntity.getUserId());
         assertThat(userResponse.username()).isEqualTo(userEntity.getUsername());
         assertThat(userResponse.email()).isEqualTo(userEntity.getEmail());
-        assertThat(userResponse.token()).isNull();
-        assertThat(userResponse.expirationTimeInMilliseconds()).isZero();
-        assertThat(userResponse.role()).isNull();
+        assertThat(userResponse.role()).isEqualTo(userEntity.getRole());
     }
 }
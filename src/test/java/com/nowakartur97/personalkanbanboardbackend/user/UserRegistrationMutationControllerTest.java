@@ -33,9 +33,10 @@ public class UserRegistrationMutationControllerTest extends IntegrationTest {
 
         assertThat(userResponse).isNotNull();
         assertThat(userResponse.userId()).isNotNull();
+        assertThat(userResponse.userId().version()).isEqualTo(7);
         assertThat(userResponse.username()).isEqualTo(userDTO.getUsername());
         assertThat(userResponse.email()).isEqualTo(userDTO.getEmail());
-        assertThat(userResponse.token()).isEqualTo(jwtUtil.generateToken(userDTO.getUsername(), UserRole.USER.name()));
+        assertThat(userResponse.token()).isEqualTo(jwtUtil.generateToken(userResponse.userId(), userDTO.getUsername(), UserRole.USER.name()));
         assertThat(userResponse.expirationTimeInMilliseconds()).isEqualTo(jwtConfigurationProperties.getExpirationTimeInMilliseconds());
         assertThat(userResponse.role()).isEqualTo(UserRole.USER);
         assertThat(userRepository.count().block()).isOne();